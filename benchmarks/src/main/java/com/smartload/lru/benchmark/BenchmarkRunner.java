@@ -0,0 +1,39 @@
+package com.smartload.lru.benchmark;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the selected benchmarks once per thread count (1, 4, 16 and 64 by default).
+ *
+ * Accepts the regular JMH command line, for example:
+ * <pre>
+ *   java -jar benchmarks/target/benchmarks.jar CacheBenchmark.get -p strategy=LRU -p capacity=1000
+ * </pre>
+ * Passing -t runs only that thread count.
+ */
+public final class BenchmarkRunner {
+    private static final int[] THREAD_COUNTS = {1, 4, 16, 64};
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.getThreads().hasValue()) {
+            new Runner(commandLine).run();
+            return;
+        }
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .parent(commandLine)
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.smartload.lru.benchmark;
+
+import com.smartload.lru.Cache;
+import com.smartload.lru.ConcurrentCache;
+import com.smartload.lru.LongKeyCache;
+import com.smartload.lru.SegmentedCache;
+import com.smartload.lru.TTLCache;
+
+/**
+ * Common view over the cache implementations, so one benchmark can drive all of them.
+ */
+interface CacheAdapter {
+
+    Integer get(Integer key);
+
+    void put(Integer key, Integer value);
+
+    /**
+     * Creates a cache of the given type.
+     *
+     * @param cacheType Cache, TTLCache, ConcurrentCache, SegmentedCache or LongKeyCache
+     * @param strategy A name from {@link Strategies}
+     * @param capacity The maximum number of entries
+     * @return An adapter over a new, empty cache
+     */
+    static CacheAdapter create(String cacheType, String strategy, int capacity) {
+        if (Strategies.isNodeBased(strategy)) {
+            if (!cacheType.equals("Cache")) {
+                throw new IllegalArgumentException(strategy + " is only supported by Cache");
+            }
+            Cache<Integer, Integer> cache = new Cache<>(capacity, Strategies.<Integer, Integer>createNodeBased(strategy));
+            return adapt(cache);
+        }
+        switch (cacheType) {
+            case "Cache":
+                return adapt(new Cache<>(capacity, Strategies.<Integer, Integer>create(strategy, capacity)));
+            case "TTLCache": {
+                TTLCache<Integer, Integer> cache =
+                        new TTLCache<>(capacity, Strategies.<Integer, Integer>create(strategy, capacity));
+                return new CacheAdapter() {
+                    @Override
+                    public Integer get(Integer key) {
+                        return cache.get(key);
+                    }
+
+                    @Override
+                    public void put(Integer key, Integer value) {
+                        cache.put(key, value);
+                    }
+                };
+            }
+            case "ConcurrentCache": {
+                ConcurrentCache<Integer, Integer> cache =
+                        new ConcurrentCache<>(capacity, Strategies.<Integer, Integer>create(strategy, capacity));
+                return new CacheAdapter() {
+                    @Override
+                    public Integer get(Integer key) {
+                        return cache.get(key);
+                    }
+
+                    @Override
+                    public void put(Integer key, Integer value) {
+                        cache.put(key, value);
+                    }
+                };
+            }
+            case "SegmentedCache": {
+                int segments = Math.min(capacity, Runtime.getRuntime().availableProcessors());
+                int segmentCapacity = Math.max(1, capacity / segments);
+                SegmentedCache<Integer, Integer> cache = new SegmentedCache<>(capacity, segments,
+                        () -> Strategies.create(strategy, segmentCapacity));
+                return new CacheAdapter() {
+                    @Override
+                    public Integer get(Integer key) {
+                        return cache.get(key);
+                    }
+
+                    @Override
+                    public void put(Integer key, Integer value) {
+                        cache.put(key, value);
+                    }
+                };
+            }
+            case "LongKeyCache": {
+                LongKeyCache<Integer> cache =
+                        new LongKeyCache<>(capacity, Strategies.<Long, Integer>create(strategy, capacity));
+                return new CacheAdapter() {
+                    @Override
+                    public Integer get(Integer key) {
+                        return cache.get(key.longValue());
+                    }
+
+                    @Override
+                    public void put(Integer key, Integer value) {
+                        cache.put(key.longValue(), value);
+                    }
+                };
+            }
+            default:
+                throw new IllegalArgumentException("Unknown cache type: " + cacheType);
+        }
+    }
+
+    private static CacheAdapter adapt(Cache<Integer, Integer> cache) {
+        return new CacheAdapter() {
+            @Override
+            public Integer get(Integer key) {
+                return cache.get(key);
+            }
+
+            @Override
+            public void put(Integer key, Integer value) {
+                cache.put(key, value);
+            }
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.smartload.lru.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of get, put and a mixed (75% get / 25% put) workload for every cache type
+ * and eviction strategy, across capacities and key distributions.
+ *
+ * The key space is twice the capacity, so a uniform workload misses about half the time
+ * and puts into a full cache always evict. Keys are pre-generated and pre-boxed.
+ * Thread counts are not a parameter here; {@link BenchmarkRunner} runs every benchmark
+ * at 1, 4, 16 and 64 threads.
+ *
+ * The default grid is kept small enough to finish in a few hours: capacities of 1K and
+ * 100K, and every strategy except LFU, whose eviction scans all entries. The rest of the
+ * grid is opt-in with JMH's -p option, e.g. -p capacity=1000000,10000000 or
+ * -p strategy=LFU -p capacity=1000. LFU is refused above {@link #MAX_LINEAR_CAPACITY}
+ * entries, where a single put would take milliseconds.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+    private static final int KEY_COUNT = 1 << 20;
+    private static final int KEY_MASK = KEY_COUNT - 1;
+    /** The largest capacity benchmarked with a strategy whose eviction is O(n). */
+    static final int MAX_LINEAR_CAPACITY = 100_000;
+
+    @Param({"Cache", "TTLCache", "ConcurrentCache", "SegmentedCache", "LongKeyCache"})
+    public String cacheType;
+
+    @Param({"LRU", "FIFO", "ConstantTimeLFU", "WTinyLFU", "ARC", "SIEVE", "S3FIFO", "Clock", "ClockPro", "LIRS", "2Q", "SLRU"})
+    public String strategy;
+
+    @Param({"1000", "100000"})
+    public int capacity;
+
+    @Param({"uniform", "zipfian"})
+    public String distribution;
+
+    private CacheAdapter cache;
+    private Integer[] keys;
+
+    /**
+     * Per-thread cursor into the shared key sequence, starting at a random offset so
+     * threads do not walk the sequence in lockstep.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int index = ThreadLocalRandom.current().nextInt(KEY_COUNT);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (strategy.equals("LFU") && capacity > MAX_LINEAR_CAPACITY) {
+            throw new IllegalArgumentException("LFU eviction is O(n); benchmark it at capacities up to "
+                    + MAX_LINEAR_CAPACITY);
+        }
+        keys = KeyDistribution.generate(distribution, 2 * capacity, KEY_COUNT, 42);
+        cache = CacheAdapter.create(cacheType, strategy, capacity);
+        // Start from a full cache so put measures the steady state, eviction included
+        for (int i = 0; i < capacity; i++) {
+            Integer key = i;
+            cache.put(key, key);
+        }
+    }
+
+    @Benchmark
+    public Integer get(ThreadState state) {
+        return cache.get(keys[state.index++ & KEY_MASK]);
+    }
+
+    @Benchmark
+    public void put(ThreadState state) {
+        Integer key = keys[state.index++ & KEY_MASK];
+        cache.put(key, key);
+    }
+
+    @Benchmark
+    public Integer mixed(ThreadState state) {
+        int index = state.index++;
+        Integer key = keys[index & KEY_MASK];
+        if ((index & 3) == 0) {
+            cache.put(key, key);
+            return key;
+        }
+        return cache.get(key);
+    }
+}
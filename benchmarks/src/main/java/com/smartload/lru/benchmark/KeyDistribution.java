@@ -0,0 +1,42 @@
+package com.smartload.lru.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * Pre-generates key sequences so that benchmarks measure the cache, not the random number generator.
+ */
+final class KeyDistribution {
+
+    private KeyDistribution() {
+    }
+
+    /**
+     * Generates a sequence of boxed keys in [0, keySpace).
+     *
+     * @param distribution "uniform" or "zipfian"
+     * @param keySpace The number of distinct keys
+     * @param count The length of the sequence
+     * @param seed Random seed, for reproducible runs
+     * @return The key sequence
+     */
+    static Integer[] generate(String distribution, int keySpace, int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Integer[] keys = new Integer[count];
+        switch (distribution) {
+            case "uniform":
+                for (int i = 0; i < count; i++) {
+                    keys[i] = random.nextInt(keySpace);
+                }
+                break;
+            case "zipfian":
+                ZipfianGenerator zipfian = new ZipfianGenerator(keySpace, ZipfianGenerator.DEFAULT_THETA);
+                for (int i = 0; i < count; i++) {
+                    keys[i] = zipfian.next(random);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown key distribution: " + distribution);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,108 @@
+package com.smartload.lru.benchmark;
+
+import com.smartload.lru.ARCEvictionStrategy;
+import com.smartload.lru.ClockEvictionStrategy;
+import com.smartload.lru.ClockProEvictionStrategy;
+import com.smartload.lru.ConstantTimeLFUEvictionStrategy;
+import com.smartload.lru.EvictionStrategy;
+import com.smartload.lru.FIFOEvictionStrategy;
+import com.smartload.lru.LFUEvictionStrategy;
+import com.smartload.lru.LIRSEvictionStrategy;
+import com.smartload.lru.LRUEvictionStrategy;
+import com.smartload.lru.NodeEvictionStrategy;
+import com.smartload.lru.NodeFIFOEvictionStrategy;
+import com.smartload.lru.NodeLRUEvictionStrategy;
+import com.smartload.lru.S3FIFOEvictionStrategy;
+import com.smartload.lru.SLRUEvictionStrategy;
+import com.smartload.lru.SieveEvictionStrategy;
+import com.smartload.lru.TwoQueueEvictionStrategy;
+import com.smartload.lru.WTinyLFUEvictionStrategy;
+
+import java.util.List;
+
+/**
+ * Creates eviction strategies by short name, so benchmarks and the simulator
+ * can be parameterized with plain strings.
+ */
+public final class Strategies {
+
+    /** Names of all key-based strategies, usable with Cache, TTLCache, ConcurrentCache, SegmentedCache and LongKeyCache. */
+    public static final List<String> KEY_BASED = List.of(
+            "LRU", "FIFO", "LFU", "ConstantTimeLFU", "WTinyLFU", "ARC", "SIEVE", "S3FIFO",
+            "Clock", "ClockPro", "LIRS", "2Q", "SLRU");
+
+    /** Names of all node-based strategies, usable with Cache only. */
+    public static final List<String> NODE_BASED = List.of("NodeLRU", "NodeFIFO");
+
+    private Strategies() {
+    }
+
+    /**
+     * Returns whether the name refers to a node-based strategy.
+     *
+     * @param name The strategy name
+     * @return true for node-based strategies
+     */
+    public static boolean isNodeBased(String name) {
+        return NODE_BASED.contains(name);
+    }
+
+    /**
+     * Creates a key-based eviction strategy.
+     *
+     * @param name One of {@link #KEY_BASED}
+     * @param capacity The capacity of the cache the strategy will be used with
+     * @return A new strategy instance
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static <K, V> EvictionStrategy<K, V> create(String name, int capacity) {
+        switch (name) {
+            case "LRU":
+                return new LRUEvictionStrategy<>();
+            case "FIFO":
+                return new FIFOEvictionStrategy<>();
+            case "LFU":
+                return new LFUEvictionStrategy<>();
+            case "ConstantTimeLFU":
+                return new ConstantTimeLFUEvictionStrategy<>();
+            case "WTinyLFU":
+                return new WTinyLFUEvictionStrategy<>(capacity);
+            case "ARC":
+                return new ARCEvictionStrategy<>(capacity);
+            case "SIEVE":
+                return new SieveEvictionStrategy<>();
+            case "S3FIFO":
+                return new S3FIFOEvictionStrategy<>(capacity);
+            case "Clock":
+                return new ClockEvictionStrategy<>(capacity);
+            case "ClockPro":
+                return new ClockProEvictionStrategy<>(capacity);
+            case "LIRS":
+                return new LIRSEvictionStrategy<>(capacity);
+            case "2Q":
+                return new TwoQueueEvictionStrategy<>(capacity);
+            case "SLRU":
+                return new SLRUEvictionStrategy<>(capacity);
+            default:
+                throw new IllegalArgumentException("Unknown eviction strategy: " + name);
+        }
+    }
+
+    /**
+     * Creates a node-based eviction strategy.
+     *
+     * @param name One of {@link #NODE_BASED}
+     * @return A new strategy instance
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static <K, V> NodeEvictionStrategy<K, V> createNodeBased(String name) {
+        switch (name) {
+            case "NodeLRU":
+                return new NodeLRUEvictionStrategy<>();
+            case "NodeFIFO":
+                return new NodeFIFOEvictionStrategy<>();
+            default:
+                throw new IllegalArgumentException("Unknown node eviction strategy: " + name);
+        }
+    }
+}
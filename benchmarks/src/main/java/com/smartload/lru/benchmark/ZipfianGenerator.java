@@ -0,0 +1,64 @@
+package com.smartload.lru.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zipfian integer generator (Gray et al., "Quickly Generating Billion-Record Synthetic
+ * Databases"), as popularized by YCSB. Item 0 is the most popular, item 1 the second most
+ * popular, and so on; theta controls the skew (0.99 is the YCSB default).
+ */
+public final class ZipfianGenerator {
+    /** YCSB's default skew. */
+    public static final double DEFAULT_THETA = 0.99;
+
+    private final int items;
+    private final double theta;
+    private final double alpha;
+    private final double zetan;
+    private final double eta;
+
+    /**
+     * Creates a generator over [0, items).
+     *
+     * @param items The number of distinct items (must be > 0)
+     * @param theta The skew, in (0, 1)
+     */
+    public ZipfianGenerator(int items, double theta) {
+        if (items <= 0) {
+            throw new IllegalArgumentException("Items must be > 0");
+        }
+        this.items = items;
+        this.theta = theta;
+        this.alpha = 1.0 / (1.0 - theta);
+        this.zetan = zeta(items, theta);
+        double zeta2 = zeta(2, theta);
+        this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta2 / zetan);
+    }
+
+    /**
+     * Returns the next item.
+     *
+     * @param random The source of randomness
+     * @return An item in [0, items)
+     */
+    public int next(SplittableRandom random) {
+        double u = random.nextDouble();
+        double uz = u * zetan;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return Math.min(1, items - 1);
+        }
+        int item = (int) (items * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(item, items - 1);
+    }
+
+    private static double zeta(int n, double theta) {
+        double sum = 0;
+        for (int i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
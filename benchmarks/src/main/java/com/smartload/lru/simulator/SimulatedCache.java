@@ -0,0 +1,84 @@
+package com.smartload.lru.simulator;
+
+import com.smartload.lru.EvictionStrategy;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Replays accesses against one eviction strategy at one capacity and counts the outcome.
+ *
+ * Follows the same protocol as {@link com.smartload.lru.Cache}: a hit records an access,
+ * a miss inserts the key and, once the capacity is exceeded, removes the strategy's
+ * eviction candidate. Only keys are tracked, since values do not affect hit ratios.
+ */
+final class SimulatedCache {
+    private final String strategyName;
+    private final int capacity;
+    private final EvictionStrategy<Long, Boolean> strategy;
+    private final Set<Long> resident;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long elapsedNanos;
+
+    SimulatedCache(String strategyName, int capacity, EvictionStrategy<Long, Boolean> strategy) {
+        this.strategyName = strategyName;
+        this.capacity = capacity;
+        this.strategy = strategy;
+        this.resident = new HashSet<>(Math.max(16, (int) (capacity / 0.75f) + 1));
+    }
+
+    void access(long key) {
+        long start = System.nanoTime();
+        Long boxed = key;
+        if (resident.contains(boxed)) {
+            hits++;
+            strategy.recordAccess(boxed);
+        } else {
+            misses++;
+            resident.add(boxed);
+            strategy.recordInsertion(boxed);
+            if (resident.size() > capacity) {
+                Long victim = strategy.selectEvictionCandidate();
+                if (victim != null && resident.remove(victim)) {
+                    strategy.recordRemoval(victim);
+                    evictions++;
+                }
+            }
+        }
+        elapsedNanos += System.nanoTime() - start;
+    }
+
+    String strategyName() {
+        return strategyName;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    long hits() {
+        return hits;
+    }
+
+    long misses() {
+        return misses;
+    }
+
+    long evictions() {
+        return evictions;
+    }
+
+    double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /** Operations per second spent inside this policy, excluding trace parsing. */
+    double throughput() {
+        long requests = hits + misses;
+        return elapsedNanos == 0 ? 0 : requests * 1e9 / elapsedNanos;
+    }
+}
@@ -0,0 +1,186 @@
+package com.smartload.lru.simulator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Supported access trace formats. Every format is streamed line by line (or record by
+ * record), so traces far larger than the heap can be replayed. Files ending in ".gz" are
+ * decompressed on the fly.
+ *
+ * Keys are reported as longs. Non-numeric keys (text traces, Wikipedia URLs) are mapped
+ * to a 64-bit FNV-1a hash, which keeps collisions negligible even for billions of keys.
+ */
+public enum TraceFormat {
+
+    /** One key per line; only the first whitespace-separated token is used. */
+    TEXT {
+        @Override
+        void read(Path path, LongConsumer consumer) throws IOException {
+            forEachLine(path, line -> {
+                String token = firstToken(line);
+                if (!token.isEmpty()) {
+                    consumer.accept(toKey(token));
+                }
+            });
+        }
+    },
+
+    /** Binary sequence of big-endian 64-bit keys. */
+    LONGS {
+        @Override
+        void read(Path path, LongConsumer consumer) throws IOException {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(open(path), BUFFER_SIZE))) {
+                while (true) {
+                    long key;
+                    try {
+                        key = in.readLong();
+                    } catch (EOFException e) {
+                        return;
+                    }
+                    consumer.accept(key);
+                }
+            }
+        }
+    },
+
+    /**
+     * ARC traces (Megiddo and Modha): "startBlock blockCount ignored requestNumber" per line,
+     * where the request touches blockCount consecutive blocks.
+     */
+    ARC {
+        @Override
+        void read(Path path, LongConsumer consumer) throws IOException {
+            forEachLine(path, line -> {
+                String[] fields = line.trim().split("\\s+");
+                if (fields.length < 2 || !isNumber(fields[0]) || !isNumber(fields[1])) {
+                    return;
+                }
+                long start = Long.parseLong(fields[0]);
+                long count = Long.parseLong(fields[1]);
+                for (long block = start; block < start + count; block++) {
+                    consumer.accept(block);
+                }
+            });
+        }
+    },
+
+    /** LIRS traces (Jiang and Zhang): one block number per line; other lines ("*") are skipped. */
+    LIRS {
+        @Override
+        void read(Path path, LongConsumer consumer) throws IOException {
+            forEachLine(path, line -> {
+                String token = firstToken(line);
+                if (isNumber(token)) {
+                    consumer.accept(Long.parseLong(token));
+                }
+            });
+        }
+    },
+
+    /** WikiBench Wikipedia traces: "counter timestamp url saveFlag"; the URL is the key. */
+    WIKIPEDIA {
+        @Override
+        void read(Path path, LongConsumer consumer) throws IOException {
+            forEachLine(path, line -> {
+                String[] fields = line.trim().split("\\s+");
+                if (fields.length >= 3) {
+                    consumer.accept(hash(fields[2]));
+                }
+            });
+        }
+    };
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Streams every key in the trace to the consumer, in trace order.
+     *
+     * @param path The trace file
+     * @param consumer Receives each key
+     * @throws IOException if the trace cannot be read
+     */
+    abstract void read(Path path, LongConsumer consumer) throws IOException;
+
+    /**
+     * Looks up a format by name, ignoring case.
+     *
+     * @param name The format name, e.g. "arc"
+     * @return The format
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static TraceFormat fromName(String name) {
+        return valueOf(name.trim().toUpperCase());
+    }
+
+    private interface LineConsumer {
+        void accept(String line);
+    }
+
+    private static void forEachLine(Path path, LineConsumer consumer) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(open(path), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                consumer.accept(line);
+            }
+        }
+    }
+
+    private static InputStream open(Path path) throws IOException {
+        InputStream in = Files.newInputStream(path);
+        if (path.getFileName().toString().endsWith(".gz")) {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+        return in;
+    }
+
+    private static String firstToken(String line) {
+        String trimmed = line.trim();
+        int end = 0;
+        while (end < trimmed.length() && !Character.isWhitespace(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end);
+    }
+
+    private static boolean isNumber(String token) {
+        if (token.isEmpty() || token.length() > 18) {
+            return false;
+        }
+        int start = (token.charAt(0) == '-') ? 1 : 0;
+        if (start == token.length()) {
+            return false;
+        }
+        for (int i = start; i < token.length(); i++) {
+            if (!Character.isDigit(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long toKey(String token) {
+        return isNumber(token) ? Long.parseLong(token) : hash(token);
+    }
+
+    /** 64-bit FNV-1a hash of the string's characters. */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
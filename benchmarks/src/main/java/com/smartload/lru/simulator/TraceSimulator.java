@@ -0,0 +1,135 @@
+package com.smartload.lru.simulator;
+
+import com.smartload.lru.benchmark.Strategies;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Offline hit-ratio simulator: streams an access trace through eviction strategies at
+ * several capacities and reports hit ratio, evictions and throughput for each pair.
+ *
+ * The trace is read exactly once; every key is fed to all simulated caches before the
+ * next one is read, so memory use depends on the capacities, not on the trace size.
+ *
+ * Usage:
+ * <pre>
+ *   java -cp benchmarks/target/benchmarks.jar com.smartload.lru.simulator.TraceSimulator \
+ *       --trace P8.lis --format arc --capacities 1000,10000,100000 --strategies LRU,WTinyLFU
+ * </pre>
+ * Formats: text, longs, arc, lirs, wikipedia (see {@link TraceFormat}). Strategies default
+ * to every key-based strategy; capacities default to 1000.
+ */
+public final class TraceSimulator {
+
+    private final List<SimulatedCache> caches = new ArrayList<>();
+    private long requests;
+    private long elapsedNanos;
+
+    /**
+     * Creates a simulator for every combination of strategy and capacity.
+     *
+     * @param strategies Strategy names from {@link Strategies#KEY_BASED}
+     * @param capacities Cache capacities (each must be > 0)
+     */
+    public TraceSimulator(List<String> strategies, int[] capacities) {
+        for (String strategy : strategies) {
+            for (int capacity : capacities) {
+                if (capacity <= 0) {
+                    throw new IllegalArgumentException("Capacity must be > 0");
+                }
+                caches.add(new SimulatedCache(strategy, capacity,
+                        Strategies.<Long, Boolean>create(strategy, capacity)));
+            }
+        }
+    }
+
+    /**
+     * Replays the whole trace.
+     *
+     * @param trace The trace file
+     * @param format The trace format
+     * @throws IOException if the trace cannot be read
+     */
+    public void run(Path trace, TraceFormat format) throws IOException {
+        long start = System.nanoTime();
+        format.read(trace, key -> {
+            requests++;
+            for (SimulatedCache cache : caches) {
+                cache.access(key);
+            }
+        });
+        elapsedNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Formats the results as a table, one row per strategy and capacity.
+     *
+     * @return The report
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Requests: %,d in %.1f s%n", requests, elapsedNanos / 1e9));
+        sb.append(String.format("%-16s %12s %10s %15s %15s %15s %15s%n",
+                "Strategy", "Capacity", "Hit ratio", "Hits", "Misses", "Evictions", "Ops/s"));
+        for (SimulatedCache cache : caches) {
+            sb.append(String.format("%-16s %,12d %9.2f%% %,15d %,15d %,15d %,15.0f%n",
+                    cache.strategyName(), cache.capacity(), cache.hitRatio() * 100,
+                    cache.hits(), cache.misses(), cache.evictions(), cache.throughput()));
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path trace = null;
+        TraceFormat format = TraceFormat.TEXT;
+        int[] capacities = {1000};
+        List<String> strategies = Strategies.KEY_BASED;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                usage("Missing value for " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--trace":
+                    trace = Paths.get(value);
+                    break;
+                case "--format":
+                    format = TraceFormat.fromName(value);
+                    break;
+                case "--capacities":
+                    capacities = Arrays.stream(value.split(",")).map(String::trim)
+                            .mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--strategies":
+                    strategies = Arrays.stream(value.split(",")).map(String::trim)
+                            .collect(Collectors.toList());
+                    break;
+                default:
+                    usage("Unknown option " + option);
+            }
+        }
+        if (trace == null || !Files.isReadable(trace)) {
+            usage("A readable --trace file is required");
+        }
+
+        TraceSimulator simulator = new TraceSimulator(strategies, capacities);
+        simulator.run(trace, format);
+        System.out.print(simulator.report());
+    }
+
+    private static void usage(String error) {
+        System.err.println(error);
+        System.err.println("Usage: TraceSimulator --trace <file> [--format text|longs|arc|lirs|wikipedia]"
+                + " [--capacities 1000,10000] [--strategies " + String.join(",", Strategies.KEY_BASED) + "]");
+        System.exit(1);
+    }
+}
@@ -0,0 +1,133 @@
+package com.smartload.lru.simulator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the trace parsers, including malformed and partial input.
+ */
+@DisplayName("Trace Formats")
+public class TraceFormatTest {
+
+    @TempDir
+    Path dir;
+
+    private Path write(String name, String content) throws IOException {
+        Path path = dir.resolve(name);
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    private static List<Long> read(TraceFormat format, Path path) throws IOException {
+        List<Long> keys = new ArrayList<>();
+        format.read(path, keys::add);
+        return keys;
+    }
+
+    // ========== TEXT TESTS ==========
+
+    @Test
+    @DisplayName("Text: First token per line, numbers as is, other keys hashed")
+    void testText() throws IOException {
+        Path path = write("trace.txt", "42 ignored\n\n   \n  7\nuser:1\nuser:1 again\nuser:2\n");
+        List<Long> keys = read(TraceFormat.TEXT, path);
+
+        assertEquals(5, keys.size()); // Blank lines are skipped
+        assertEquals(42L, keys.get(0));
+        assertEquals(7L, keys.get(1));
+        assertEquals(keys.get(2), keys.get(3));
+        assertNotEquals(keys.get(2), keys.get(4));
+        // Numbers too long for a long are hashed instead of failing
+        assertEquals(1, read(TraceFormat.TEXT, write("big.txt", "123456789012345678901234567890\n")).size());
+    }
+
+    @Test
+    @DisplayName("Text: Gzipped traces are decompressed")
+    void testGzip() throws IOException {
+        Path path = dir.resolve("trace.txt.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+            out.write("1\n2\n3\n".getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(List.of(1L, 2L, 3L), read(TraceFormat.TEXT, path));
+    }
+
+    // ========== LONGS TESTS ==========
+
+    @Test
+    @DisplayName("Longs: Big-endian keys; a truncated last record is ignored")
+    void testLongs() throws IOException {
+        Path path = dir.resolve("trace.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(path))) {
+            out.writeLong(1);
+            out.writeLong(-5);
+            out.writeLong(Long.MAX_VALUE);
+            out.write(new byte[] {1, 2, 3}); // Partial record
+        }
+        assertEquals(List.of(1L, -5L, Long.MAX_VALUE), read(TraceFormat.LONGS, path));
+        assertEquals(List.of(), read(TraceFormat.LONGS, write("empty.bin", "")));
+    }
+
+    // ========== ARC TESTS ==========
+
+    @Test
+    @DisplayName("ARC: Each request expands to its block range; malformed lines are skipped")
+    void testArc() throws IOException {
+        Path path = write("trace.arc", String.join("\n",
+                "100 3 0 1",
+                "# comment",
+                "200",
+                "300 abc 0 2",
+                "x 2 0 3",
+                "400 0 0 4",
+                "  500 1 0 5  ",
+                ""));
+        assertEquals(List.of(100L, 101L, 102L, 500L), read(TraceFormat.ARC, path));
+    }
+
+    // ========== LIRS TESTS ==========
+
+    @Test
+    @DisplayName("LIRS: One block per line; markers and malformed lines are skipped")
+    void testLirs() throws IOException {
+        Path path = write("trace.lirs", "1\n*\n2 extra\n-\n\nabc\n3\n");
+        assertEquals(List.of(1L, 2L, 3L), read(TraceFormat.LIRS, path));
+    }
+
+    // ========== WIKIPEDIA TESTS ==========
+
+    @Test
+    @DisplayName("Wikipedia: The URL is the key; lines without one are skipped")
+    void testWikipedia() throws IOException {
+        Path path = write("trace.wiki", String.join("\n",
+                "1 1190146243.335 http://en.wikipedia.org/wiki/Cache -",
+                "2 1190146243.337",
+                "3 1190146243.339 http://en.wikipedia.org/wiki/Cache -",
+                "4 1190146243.341 http://en.wikipedia.org/wiki/LRU -",
+                ""));
+        List<Long> keys = read(TraceFormat.WIKIPEDIA, path);
+        assertEquals(3, keys.size());
+        assertEquals(keys.get(0), keys.get(1));
+        assertNotEquals(keys.get(0), keys.get(2));
+    }
+
+    @Test
+    @DisplayName("Formats are looked up by name, ignoring case and whitespace")
+    void testFromName() {
+        assertEquals(TraceFormat.ARC, TraceFormat.fromName(" arc "));
+        assertEquals(TraceFormat.WIKIPEDIA, TraceFormat.fromName("Wikipedia"));
+        assertThrows(IllegalArgumentException.class, () -> TraceFormat.fromName("csv"));
+    }
+}
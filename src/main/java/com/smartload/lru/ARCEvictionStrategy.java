@@ -0,0 +1,216 @@
+package com.smartload.lru;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ARC (Adaptive Replacement Cache) eviction strategy implementation.
+ *
+ * Balances recency against frequency and tunes the balance to the workload:
+ * - T1 holds entries seen once recently, T2 entries seen at least twice (both in LRU order)
+ * - B1 and B2 are ghost lists: the keys (never the values) of entries recently evicted
+ *   from T1 and T2
+ * - A miss on a key in B1 means T1 was too small, so the target size p of T1 grows;
+ *   a miss on a key in B2 shrinks it. The re-inserted key goes straight into T2
+ * - On eviction, the LRU entry of T1 is evicted while T1 is larger than p, otherwise
+ *   the LRU entry of T2
+ *
+ * Recency-heavy phases therefore let T1 take most of the cache, and frequency-heavy phases
+ * (including scans of one-time keys) hand it to T2. Ghost keys are trimmed so that
+ * |T1| + |B1| and |B1| + |B2| never exceed the capacity.
+ *
+ * Because p and the ghost bounds derive from the cache capacity, the strategy must be
+ * created with the same capacity as the cache it is plugged into:
+ * <pre>
+ *   Cache<String, String> cache = new Cache<>(1000, new ARCEvictionStrategy<>(1000));
+ * </pre>
+ *
+ * Entries are saved in snapshots with frequency 1 (T1) or 2 (T2).
+ *
+ * Time Complexity:
+ * - recordAccess: O(1)
+ * - recordInsertion: O(1)
+ * - recordRemoval: O(1)
+ * - selectEvictionCandidate: O(1)
+ */
+public class ARCEvictionStrategy<K, V> implements EvictionStrategy<K, V>, RestorableStrategy<K> {
+
+    private final int maximumSize;
+
+    /** Iteration order of each list is LRU order: the first key is the least recently used. */
+    private final LinkedHashSet<K> t1 = new LinkedHashSet<>();
+    private final LinkedHashSet<K> t2 = new LinkedHashSet<>();
+    private final LinkedHashSet<K> b1 = new LinkedHashSet<>();
+    private final LinkedHashSet<K> b2 = new LinkedHashSet<>();
+
+    /** Target size of T1. */
+    private int p;
+
+    /** The most recently inserted key, which must not be its own eviction victim. */
+    private K lastInserted;
+    private boolean lastInsertedFromB2;
+
+    /** The key returned by the last selectEvictionCandidate(); its removal makes it a ghost. */
+    private K pendingVictim;
+
+    /**
+     * Creates an ARC strategy for a cache of the given capacity.
+     *
+     * @param maximumSize The capacity of the cache this strategy is used with (must be > 0)
+     * @throws IllegalArgumentException if maximumSize <= 0
+     */
+    public ARCEvictionStrategy(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be > 0");
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        // A hit in T1 or T2 makes the key frequent
+        if (t1.remove(key) || t2.remove(key)) {
+            t2.add(key);
+        }
+    }
+
+    @Override
+    public void recordInsertion(K key) {
+        t1.remove(key);
+        t2.remove(key);
+        lastInserted = key;
+        lastInsertedFromB2 = false;
+
+        if (b1.contains(key)) {
+            // T1 was too small: grow its target
+            p = Math.min(maximumSize, p + Math.max(b2.size() / b1.size(), 1));
+            b1.remove(key);
+            t2.add(key);
+        } else if (b2.contains(key)) {
+            // T2 was too small: shrink the target of T1
+            p = Math.max(0, p - Math.max(b1.size() / b2.size(), 1));
+            b2.remove(key);
+            t2.add(key);
+            lastInsertedFromB2 = true;
+        } else {
+            // A new key: make room in the ghost lists for the history it will create
+            if (t1.size() + b1.size() >= maximumSize) {
+                removeFirst(b1);
+            } else if (t1.size() + t2.size() + b1.size() + b2.size() >= 2 * maximumSize) {
+                removeFirst(b2);
+            }
+            t1.add(key);
+        }
+    }
+
+    @Override
+    public void recordRemoval(K key) {
+        boolean evicted = Objects.equals(key, pendingVictim);
+        if (evicted) {
+            pendingVictim = null;
+        }
+        if (Objects.equals(key, lastInserted)) {
+            lastInserted = null;
+        }
+        // Evicted keys are remembered in a ghost list; explicitly removed keys are forgotten
+        if (t1.remove(key)) {
+            if (evicted) {
+                b1.add(key);
+            }
+        } else if (t2.remove(key)) {
+            if (evicted) {
+                b2.add(key);
+            }
+        } else {
+            b1.remove(key);
+            b2.remove(key);
+        }
+        trimGhosts();
+    }
+
+    @Override
+    public K selectEvictionCandidate() {
+        // The key just inserted into T1 is not a candidate (ARC makes room before inserting it)
+        int t1Size = t1.size();
+        if (lastInserted != null && t1.contains(lastInserted)) {
+            t1Size--;
+        }
+        K victim;
+        if (t1Size > 0 && (t1Size > p || (lastInsertedFromB2 && t1Size == p))) {
+            victim = first(t1);
+        } else if (!t2.isEmpty()) {
+            victim = first(t2);
+        } else {
+            victim = first(t1);
+        }
+        pendingVictim = victim;
+        return victim;
+    }
+
+    @Override
+    public List<K> evictionOrder() {
+        List<K> order = new ArrayList<>(t1.size() + t2.size());
+        order.addAll(t1);
+        order.addAll(t2);
+        return order;
+    }
+
+    @Override
+    public long frequency(K key) {
+        return t2.contains(key) ? 2 : 1;
+    }
+
+    @Override
+    public void restoreFrequency(K key, long frequency) {
+        if (frequency >= 2 && t1.remove(key)) {
+            t2.add(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        t1.clear();
+        t2.clear();
+        b1.clear();
+        b2.clear();
+        p = 0;
+        lastInserted = null;
+        lastInsertedFromB2 = false;
+        pendingVictim = null;
+    }
+
+    /** Returns the number of ghost keys in B1 and B2. */
+    int ghostCount() {
+        return b1.size() + b2.size();
+    }
+
+    /** Returns the current target size of T1. */
+    int target() {
+        return p;
+    }
+
+    private void trimGhosts() {
+        while (t1.size() + b1.size() > maximumSize && !b1.isEmpty()) {
+            removeFirst(b1);
+        }
+        while (b1.size() + b2.size() > maximumSize) {
+            removeFirst(b2.isEmpty() ? b1 : b2);
+        }
+    }
+
+    private static <K> K first(LinkedHashSet<K> list) {
+        Iterator<K> iterator = list.iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private static <K> void removeFirst(LinkedHashSet<K> list) {
+        Iterator<K> iterator = list.iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.smartload.lru;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Cache of {@link CompletableFuture} values whose loads run asynchronously on an executor.
+ *
+ * A miss starts one load per key on the caller-supplied executor and returns its future
+ * right away; callers that miss on the same key while it is loading get the same future.
+ * Futures that are still loading are kept aside in a concurrent map of pending loads and
+ * only move into the underlying {@link Cache} once they complete successfully, so only
+ * completed values count toward the capacity (or weight) and take part in eviction.
+ * Futures that fail, or complete with null, are dropped automatically.
+ *
+ * Example usage:
+ * <pre>
+ *   AsyncCache<String, User> cache =
+ *           new AsyncCache<>(10_000, new LRUEvictionStrategy<>(), executor);
+ *   cache.get(userId, id -> userRepository.findById(id))
+ *        .thenAccept(user -> ...);
+ * </pre>
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class AsyncCache<K, V> {
+    private final Cache<K, CompletableFuture<V>> cache;
+    private final ConcurrentMap<K, CompletableFuture<V>> pending = new ConcurrentHashMap<>();
+    private final Executor executor;
+
+    /**
+     * Creates an async cache with the specified capacity and eviction strategy.
+     *
+     * @param capacity The maximum number of completed entries in the cache (must be > 0)
+     * @param evictionStrategy The strategy to use for evicting entries when capacity is exceeded
+     * @param executor The executor that runs loads
+     * @throws IllegalArgumentException if capacity <= 0
+     * @throws NullPointerException if evictionStrategy or executor is null
+     */
+    public AsyncCache(int capacity, EvictionStrategy<K, CompletableFuture<V>> evictionStrategy,
+                      Executor executor) {
+        this.cache = new Cache<>(capacity, evictionStrategy);
+        this.executor = requireExecutor(executor);
+    }
+
+    /**
+     * Creates an async cache bounded by the total weight of its completed values.
+     *
+     * @param maximumWeight The maximum total weight of all completed entries (must be > 0)
+     * @param weigher Computes the weight of each completed value
+     * @param evictionStrategy The strategy to use for evicting entries when the weight is exceeded
+     * @param executor The executor that runs loads
+     * @throws IllegalArgumentException if maximumWeight <= 0
+     * @throws NullPointerException if weigher, evictionStrategy or executor is null
+     */
+    public AsyncCache(long maximumWeight, Weigher<? super K, ? super V> weigher,
+                      EvictionStrategy<K, CompletableFuture<V>> evictionStrategy, Executor executor) {
+        if (weigher == null) {
+            throw new NullPointerException("Weigher cannot be null");
+        }
+        // Only completed futures are ever stored, so join() never blocks here
+        this.cache = new Cache<>(maximumWeight,
+                (key, future) -> weigher.weigh(key, future.join()), evictionStrategy);
+        this.executor = requireExecutor(executor);
+    }
+
+    private static Executor requireExecutor(Executor executor) {
+        if (executor == null) {
+            throw new NullPointerException("Executor cannot be null");
+        }
+        return executor;
+    }
+
+    /**
+     * Returns the future for the key, whether it is still loading or already completed.
+     *
+     * @param key The key to look up
+     * @return The future, or null if the key is neither cached nor loading
+     */
+    public CompletableFuture<V> getIfPresent(K key) {
+        CompletableFuture<V> future = pending.get(key);
+        return future != null ? future : cache.getIfPresent(key);
+    }
+
+    /**
+     * Returns the future for the key, starting a load on the executor on a miss.
+     * Concurrent misses on the same key share one load.
+     *
+     * @param key The key to look up
+     * @param loader Computes the value; it runs on the executor, never on the calling thread
+     * @return A future for the cached or loading value. It fails if the loader throws
+     *         (with a {@link java.util.concurrent.CompletionException} wrapping checked exceptions)
+     * @throws NullPointerException if loader is null
+     */
+    public CompletableFuture<V> get(K key, CacheLoader<? super K, ? extends V> loader) {
+        if (loader == null) {
+            throw new NullPointerException("Loader cannot be null");
+        }
+        CompletableFuture<V> future = getIfPresent(key);
+        if (future != null) {
+            return future;
+        }
+
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = pending.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        track(key, created);
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(loader.load(key));
+                } catch (Throwable t) {
+                    created.completeExceptionally(t);
+                }
+            });
+        } catch (RuntimeException e) {
+            // e.g. RejectedExecutionException: fail the load instead of leaving it pending forever
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    /**
+     * Associates the key with a future supplied by the caller, e.g. from an async client.
+     * Any previous value is replaced; the new future is cached once it completes successfully.
+     *
+     * @param key The key
+     * @param future The future value
+     * @throws NullPointerException if future is null
+     */
+    public void put(K key, CompletableFuture<V> future) {
+        if (future == null) {
+            throw new NullPointerException("Future cannot be null");
+        }
+        pending.put(key, future);
+        cache.remove(key);
+        track(key, future);
+    }
+
+    /**
+     * Removes the key, whether its value is still loading or completed.
+     * A load in progress still completes its future, but the value is not cached.
+     *
+     * @param key The key to remove
+     * @return The removed future, or null if the key was not present
+     */
+    public CompletableFuture<V> remove(K key) {
+        CompletableFuture<V> loading = pending.remove(key);
+        CompletableFuture<V> completed = cache.remove(key);
+        return loading != null ? loading : completed;
+    }
+
+    /**
+     * Returns the number of completed entries in the cache.
+     * Loads in progress are not counted; see {@link #pendingCount()}.
+     *
+     * @return The current size
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the number of loads in progress.
+     *
+     * @return The number of pending futures
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the total weight of the completed entries (equal to size() without a {@link Weigher}).
+     *
+     * @return The current total weight
+     */
+    public long weightedSize() {
+        return cache.weightedSize();
+    }
+
+    /**
+     * Removes all completed entries and forgets all loads in progress.
+     */
+    public void clear() {
+        pending.clear();
+        cache.clear();
+    }
+
+    /**
+     * Returns the name of the eviction strategy being used.
+     *
+     * @return Strategy class name
+     */
+    public String getEvictionStrategyName() {
+        return cache.getEvictionStrategyName();
+    }
+
+    /**
+     * Moves the future into the cache once it completes successfully with a value, or drops it.
+     * A remove or put of the same key that happens before the future leaves the pending map
+     * wins over the completed load. The cache put runs outside the pending map's locks, since
+     * it takes the cache lock and may wait on write-behind back-pressure.
+     */
+    private void track(K key, CompletableFuture<V> future) {
+        future.whenComplete((value, error) -> {
+            if (pending.remove(key, future) && error == null && value != null) {
+                cache.put(key, future);
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncCache{" +
+                "size=" + size() +
+                ", pending=" + pendingCount() +
+                ", strategy=" + getEvictionStrategyName() +
+                '}';
+    }
+}
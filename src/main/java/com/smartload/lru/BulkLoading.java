@@ -0,0 +1,106 @@
+package com.smartload.lru;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Shared implementation of the caches' getAll(keys, loader): one bulk lookup, one
+ * {@link CacheLoader#loadAll(Set)} call for the missing keys, and one bulk store.
+ *
+ * Unlike single-key loads, bulk loads are not deduplicated against loads in flight.
+ */
+final class BulkLoading {
+
+    private BulkLoading() {
+    }
+
+    /**
+     * Returns the cached values for the keys, loading and storing the missing ones.
+     *
+     * @param keys The keys to look up
+     * @param lookupAll Returns the cached values for the given keys (misses absent)
+     * @param loader Loads the missing keys
+     * @param storeAll Stores the loaded (non-null) values
+     * @param stats Receives the outcome and duration of the bulk load
+     * @return The cached and loaded values, in the order of the keys; keys without a value are absent
+     */
+    static <K, V> Map<K, V> getAll(Iterable<? extends K> keys,
+                                   Function<Iterable<? extends K>, Map<K, V>> lookupAll,
+                                   CacheLoader<? super K, ? extends V> loader,
+                                   Consumer<Map<K, V>> storeAll,
+                                   StatsCounter stats) {
+        return getAll(keys, lookupAll, loader, storeAll, stats, null);
+    }
+
+    /**
+     * Returns the cached values for the keys, loading and storing the missing ones.
+     *
+     * @param keys The keys to look up
+     * @param lookupAll Returns the cached values for the given keys (misses absent)
+     * @param loader Loads the missing keys
+     * @param storeAll Stores the loaded (non-null) values
+     * @param stats Receives the outcome and duration of the bulk load
+     * @param latencies Receives the duration of the bulk load, or null if latencies are not tracked
+     * @return The cached and loaded values, in the order of the keys; keys without a value are absent
+     */
+    static <K, V> Map<K, V> getAll(Iterable<? extends K> keys,
+                                   Function<Iterable<? extends K>, Map<K, V>> lookupAll,
+                                   CacheLoader<? super K, ? extends V> loader,
+                                   Consumer<Map<K, V>> storeAll,
+                                   StatsCounter stats,
+                                   CacheLatencies latencies) {
+        if (loader == null) {
+            throw new NullPointerException("Loader cannot be null");
+        }
+        Set<K> requested = new LinkedHashSet<>();
+        for (K key : keys) {
+            requested.add(key);
+        }
+        Map<K, V> present = lookupAll.apply(requested);
+        if (present.size() == requested.size()) {
+            return present;
+        }
+
+        Set<K> missing = new LinkedHashSet<>();
+        for (K key : requested) {
+            if (!present.containsKey(key)) {
+                missing.add(key);
+            }
+        }
+        Map<?, ? extends V> loaded;
+        long start = System.nanoTime();
+        try {
+            loaded = loader.loadAll(missing);
+            long loadTime = System.nanoTime() - start;
+            stats.recordLoadSuccess(loadTime);
+            SingleFlight.recordLoadLatency(latencies, loadTime);
+        } catch (Exception e) {
+            long loadTime = System.nanoTime() - start;
+            stats.recordLoadFailure(loadTime);
+            SingleFlight.recordLoadLatency(latencies, loadTime);
+            throw SingleFlight.propagate(e);
+        }
+
+        Map<K, V> toStore = new LinkedHashMap<>();
+        for (K key : missing) {
+            V value = loaded == null ? null : loaded.get(key);
+            if (value != null) {
+                toStore.put(key, value);
+            }
+        }
+        storeAll.accept(toStore);
+
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : requested) {
+            V value = present.containsKey(key) ? present.get(key) : toStore.get(key);
+            if (value != null || present.containsKey(key)) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+}
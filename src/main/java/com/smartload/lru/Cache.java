@@ -1,18 +1,28 @@
 package com.smartload.lru;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Generic, thread-safe cache implementation with pluggable eviction strategy.
  * 
- * Maintains O(1) get/put by using HashMap for fast lookup and stores values.
- * The eviction policy is determined by the plugged-in EvictionStrategy.
+ * Maintains O(1) get/put by using HashMap for fast lookup. Each value is stored in a
+ * {@link CacheNode}, which a {@link NodeEvictionStrategy} can link into its eviction
+ * order directly; key-based {@link EvictionStrategy} implementations are supported too.
+ * The eviction policy is determined by the plugged-in strategy.
  * 
  * Thread-safety is ensured using ReentrantReadWriteLock:
  * - Write locks for put/remove operations (exclusive access)
- * - Write locks for get operations (to maintain consistency when recording access)
+ * - Write locks for get operations (to maintain consistency when recording access),
+ *   or read locks if the strategy records accesses lock-free ({@link LockFreeAccess})
  * - Read locks for read-only operations like size()
  * 
  * @param <K> Key type
@@ -20,10 +30,20 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  */
 public class Cache<K, V> {
     private final int capacity;
-    private final Map<K, V> map;
+    private final long maximumWeight;
+    private final Weigher<? super K, ? super V> weigher; // null when bounded by entry count
+    private final Map<K, CacheNode<K, V>> map;
+    // Exactly one of the two strategies is set, depending on the constructor used
     private final EvictionStrategy<K, V> evictionStrategy;
+    private final NodeEvictionStrategy<K, V> nodeStrategy;
+    private final boolean lockFreeAccess; // gets only need the read lock
     private int size;
+    private long weightedSize;
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final StatsCounter stats = new StatsCounter();
+    private volatile CacheLatencies latencies; // null unless latency tracking is enabled
+    private final SingleFlight<K, V> singleFlight = new SingleFlight<>(stats, () -> latencies);
+    private volatile WriteBehindQueue<K, V> writeBehind; // null unless write-behind is enabled
 
     /**
      * Creates a cache with the specified capacity and eviction strategy.
@@ -34,16 +54,95 @@ public class Cache<K, V> {
      * @throws NullPointerException if evictionStrategy is null
      */
     public Cache(int capacity, EvictionStrategy<K, V> evictionStrategy) {
+        this(checkCapacity(capacity), capacity, null,
+                requireStrategy(evictionStrategy), null);
+    }
+
+    /**
+     * Creates a cache with the specified capacity and node-based eviction strategy.
+     * Node strategies link the cache's own entries, avoiding a second lookup per operation.
+     * 
+     * @param capacity The maximum number of entries in the cache (must be > 0)
+     * @param nodeStrategy The strategy to use for evicting entries when capacity is exceeded
+     * @throws IllegalArgumentException if capacity <= 0
+     * @throws NullPointerException if nodeStrategy is null
+     */
+    public Cache(int capacity, NodeEvictionStrategy<K, V> nodeStrategy) {
+        this(checkCapacity(capacity), capacity, null,
+                null, requireStrategy(nodeStrategy));
+    }
+
+    /**
+     * Creates a cache bounded by the total weight of its entries instead of their count.
+     * When the total weight exceeds the maximum, entries selected by the strategy are
+     * evicted until it fits again. Entries heavier than the maximum weight are rejected.
+     * 
+     * @param maximumWeight The maximum total weight of all entries (must be > 0)
+     * @param weigher Computes the weight of each entry
+     * @param evictionStrategy The strategy to use for evicting entries when the weight is exceeded
+     * @throws IllegalArgumentException if maximumWeight <= 0
+     * @throws NullPointerException if weigher or evictionStrategy is null
+     */
+    public Cache(long maximumWeight, Weigher<? super K, ? super V> weigher,
+                 EvictionStrategy<K, V> evictionStrategy) {
+        this(Integer.MAX_VALUE, checkMaximumWeight(maximumWeight), requireWeigher(weigher),
+                requireStrategy(evictionStrategy), null);
+    }
+
+    /**
+     * Creates a cache bounded by total weight that uses a node-based eviction strategy.
+     * 
+     * @param maximumWeight The maximum total weight of all entries (must be > 0)
+     * @param weigher Computes the weight of each entry
+     * @param nodeStrategy The strategy to use for evicting entries when the weight is exceeded
+     * @throws IllegalArgumentException if maximumWeight <= 0
+     * @throws NullPointerException if weigher or nodeStrategy is null
+     */
+    public Cache(long maximumWeight, Weigher<? super K, ? super V> weigher,
+                 NodeEvictionStrategy<K, V> nodeStrategy) {
+        this(Integer.MAX_VALUE, checkMaximumWeight(maximumWeight), requireWeigher(weigher),
+                null, requireStrategy(nodeStrategy));
+    }
+
+    private Cache(int capacity, long maximumWeight, Weigher<? super K, ? super V> weigher,
+                  EvictionStrategy<K, V> evictionStrategy, NodeEvictionStrategy<K, V> nodeStrategy) {
+        this.capacity = capacity;
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.map = new HashMap<>();
+        this.evictionStrategy = evictionStrategy;
+        this.nodeStrategy = nodeStrategy;
+        this.lockFreeAccess = evictionStrategy instanceof LockFreeAccess;
+        this.size = 0;
+        this.weightedSize = 0;
+    }
+
+    private static int checkCapacity(int capacity) {
         if (capacity <= 0) {
             throw new IllegalArgumentException("Capacity must be > 0");
         }
-        if (evictionStrategy == null) {
+        return capacity;
+    }
+
+    private static long checkMaximumWeight(long maximumWeight) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be > 0");
+        }
+        return maximumWeight;
+    }
+
+    private static <W> W requireWeigher(W weigher) {
+        if (weigher == null) {
+            throw new NullPointerException("Weigher cannot be null");
+        }
+        return weigher;
+    }
+
+    private static <S> S requireStrategy(S strategy) {
+        if (strategy == null) {
             throw new NullPointerException("Eviction strategy cannot be null");
         }
-        this.capacity = capacity;
-        this.map = new HashMap<>();
-        this.evictionStrategy = evictionStrategy;
-        this.size = 0;
+        return strategy;
     }
 
     /**
@@ -57,63 +156,326 @@ public class Cache<K, V> {
      * @return The value associated with the key, or a sentinel value if not found
      */
     public V get(K key) {
-        lock.writeLock().lock();
+        CacheNode<K, V> node = lookup(key);
+        if (node == null) {
+            // Maintain backward compatibility for Integer-valued caches used by tests
+            try {
+                @SuppressWarnings("unchecked")
+                V sentinel = (V) Integer.valueOf(-1);
+                return sentinel;
+            } catch (ClassCastException e) {
+                return null;
+            }
+        }
+        return node.getValue();
+    }
+
+    /**
+     * Retrieves the value associated with the key, without the -1 sentinel on a miss.
+     * 
+     * @param key The key to look up
+     * @return The value if found, null otherwise
+     */
+    public V getIfPresent(K key) {
+        CacheNode<K, V> node = lookup(key);
+        return node == null ? null : node.getValue();
+    }
+
+    /**
+     * Retrieves the value associated with the key, loading it with the loader on a miss.
+     * 
+     * Only one load per key is in flight at a time: concurrent callers that miss on the
+     * same key wait for that load and get its result (or its exception) instead of calling
+     * the loader themselves. The cache lock is not held while the loader runs.
+     * 
+     * @param key The key to look up
+     * @param loader Computes the value if the key is missing; null results are not cached
+     * @return The cached or loaded value
+     * @throws NullPointerException if loader is null
+     * @throws java.util.concurrent.CompletionException wrapping a checked exception thrown by the loader
+     */
+    public V get(K key, CacheLoader<? super K, ? extends V> loader) {
+        // Loaded values came from the backing store, so they are not written back
+        return singleFlight.get(key, this::getIfPresent, this::peek, loader, (k, v) -> store(k, v, false));
+    }
+
+    /**
+     * Returns the value for the key without recording an access or statistics.
+     */
+    private V peek(K key) {
+        lock.readLock().lock();
         try {
-            V value = map.get(key);
-            if (value == null) {
-                // Maintain backward compatibility for Integer-valued caches used by tests
-                try {
-                    @SuppressWarnings("unchecked")
-                    V sentinel = (V) Integer.valueOf(-1);
-                    return sentinel;
-                } catch (ClassCastException e) {
-                    return null;
-                }
+            CacheNode<K, V> node = map.get(key);
+            return node == null ? null : node.getValue();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the node for the key and records the access.
+     */
+    private CacheNode<K, V> lookup(K key) {
+        CacheLatencies tracked = latencies;
+        long start = (tracked != null) ? System.nanoTime() : 0L;
+        CacheNode<K, V> node;
+        Lock lookupLock = lockForLookup();
+        try {
+            node = map.get(key);
+            if (node != null) {
+                // Record access in the eviction strategy
+                recordAccess(node);
             }
-            // Record access in the eviction strategy
-            evictionStrategy.recordAccess(key);
-            return value;
         } finally {
-            lock.writeLock().unlock();
+            lookupLock.unlock();
+        }
+        // Statistics are striped counters and don't need the lock
+        if (node != null) {
+            stats.recordHit();
+        } else {
+            stats.recordMiss();
         }
+        if (tracked != null) {
+            tracked.get().record(System.nanoTime() - start);
+        }
+        return node;
     }
 
     /**
      * Inserts or updates an entry in the cache.
-     * If insertion exceeds capacity, the eviction strategy determines which entry to remove.
+     * If insertion exceeds capacity (or the maximum weight), the eviction strategy
+     * determines which entries to remove.
+     * 
+     * In a weight-bounded cache, an entry heavier than the maximum weight is rejected:
+     * it is not stored, and any previous value for the key is removed.
+     * 
+     * With write-behind enabled, the entry is also queued for the {@link CacheWriter}.
      * 
      * @param key The key to insert or update
      * @param value The value to associate with the key
+     * @throws IllegalArgumentException if the weigher returns a negative weight
      */
     public void put(K key, V value) {
-        lock.writeLock().lock();
+        store(key, value, true);
+    }
+
+    /**
+     * Puts one entry; writeBack is false for loaded values, which the store already has.
+     */
+    private void store(K key, V value, boolean writeBack) {
+        CacheLatencies tracked = latencies;
+        long start = (tracked != null) ? System.nanoTime() : 0L;
+        int weight = weigh(key, value);
+        if (writeBack) {
+            awaitWriteBehindCapacity();
+        }
+        lockForWrite();
         try {
-            // If key already exists, update it and record access
-            if (map.containsKey(key)) {
-                map.put(key, value);
-                evictionStrategy.recordAccess(key);
-                return;
+            putLocked(key, value, weight);
+            if (writeBack && writeBehind != null) {
+                writeBehind.write(key, value);
             }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (tracked != null) {
+            tracked.put().record(System.nanoTime() - start);
+        }
+    }
 
-            // New entry - add to map and record insertion
-            map.put(key, value);
-            evictionStrategy.recordInsertion(key);
-            size++;
+    /**
+     * Inserts or updates all entries under a single lock acquisition.
+     * Equivalent to calling {@link #put(Object, Object)} for each entry, in iteration order.
+     * 
+     * @param entries The entries to insert or update
+     * @throws IllegalArgumentException if the weigher returns a negative weight
+     */
+    public void putAll(Map<? extends K, ? extends V> entries) {
+        storeAll(entries, true);
+    }
+
+    /**
+     * Puts several entries; writeBack is false for loaded values, which the store already has.
+     */
+    private void storeAll(Map<? extends K, ? extends V> entries, boolean writeBack) {
+        CacheLatencies tracked = latencies;
+        long start = (tracked != null) ? System.nanoTime() : 0L;
+        // Weigh outside the lock; user code should not run while other threads wait
+        List<Map.Entry<? extends K, ? extends V>> batch = new ArrayList<>(entries.entrySet());
+        int[] weights = new int[batch.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = weigh(batch.get(i).getKey(), batch.get(i).getValue());
+        }
+        if (writeBack) {
+            awaitWriteBehindCapacity();
+        }
+        lockForWrite();
+        try {
+            WriteBehindQueue<K, V> queue = writeBack ? writeBehind : null;
+            for (int i = 0; i < weights.length; i++) {
+                putLocked(batch.get(i).getKey(), batch.get(i).getValue(), weights[i]);
+                if (queue != null) {
+                    queue.write(batch.get(i).getKey(), batch.get(i).getValue());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (tracked != null) {
+            tracked.put().record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Retrieves the values of several keys under a single lock acquisition,
+     * recording an access for each key found.
+     * 
+     * @param keys The keys to look up
+     * @return The values found, in the order of the keys; missing keys are absent (no -1 sentinel)
+     */
+    public Map<K, V> getAll(Iterable<? extends K> keys) {
+        CacheLatencies tracked = latencies;
+        long start = (tracked != null) ? System.nanoTime() : 0L;
+        Map<K, V> result = new LinkedHashMap<>();
+        int hits = 0;
+        int misses = 0;
+        Lock lookupLock = lockForLookup();
+        try {
+            for (K key : keys) {
+                CacheNode<K, V> node = map.get(key);
+                if (node != null) {
+                    recordAccess(node);
+                    result.put(key, node.getValue());
+                    hits++;
+                } else {
+                    misses++;
+                }
+            }
+        } finally {
+            lookupLock.unlock();
+        }
+        stats.recordHits(hits);
+        stats.recordMisses(misses);
+        if (tracked != null) {
+            tracked.get().record(System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves the values of several keys, loading all missing keys with a single
+     * {@link CacheLoader#loadAll(java.util.Set)} call and storing them with {@link #putAll(Map)}.
+     * 
+     * @param keys The keys to look up
+     * @param loader Loads the missing keys; null results are not cached
+     * @return The cached and loaded values, in the order of the keys; keys without a value are absent
+     * @throws NullPointerException if loader is null
+     * @throws java.util.concurrent.CompletionException wrapping a checked exception thrown by the loader
+     */
+    public Map<K, V> getAll(Iterable<? extends K> keys, CacheLoader<? super K, ? extends V> loader) {
+        return BulkLoading.getAll(keys, this::getAll, loader, entries -> storeAll(entries, false),
+                stats, latencies);
+    }
 
-            // If capacity exceeded, evict the candidate selected by strategy
-            if (size > capacity) {
-                K evictionCandidate = evictionStrategy.selectEvictionCandidate();
-                if (evictionCandidate != null) {
-                    map.remove(evictionCandidate);
-                    evictionStrategy.recordRemoval(evictionCandidate);
-                    size--;
+    /**
+     * Removes several keys under a single lock acquisition.
+     * 
+     * @param keys The keys to remove
+     * @return The number of entries that were removed
+     */
+    public int removeAll(Iterable<? extends K> keys) {
+        awaitWriteBehindCapacity();
+        lockForWrite();
+        try {
+            WriteBehindQueue<K, V> queue = writeBehind;
+            int removed = 0;
+            for (K key : keys) {
+                if (removeLocked(key) != null) {
+                    removed++;
+                }
+                if (queue != null) {
+                    queue.delete(key);
                 }
             }
+            return removed;
         } finally {
             lock.writeLock().unlock();
         }
     }
 
+    /**
+     * Inserts or updates one entry and evicts until the cache fits. Caller holds the write lock.
+     */
+    private void putLocked(K key, V value, int weight) {
+        stats.recordPut();
+        if (storeLocked(key, value, weight) != null) {
+            evictToFit();
+        }
+    }
+
+    /**
+     * Inserts or updates one entry without evicting. Caller holds the write lock.
+     * 
+     * @return The entry's node, or null if the entry is heavier than the maximum weight
+     */
+    private CacheNode<K, V> storeLocked(K key, V value, int weight) {
+        CacheNode<K, V> node = map.get(key);
+        if (weight > maximumWeight) {
+            // Oversized entries can never fit; drop the stale value instead of keeping it
+            if (node != null) {
+                removeLocked(key);
+            }
+            return null;
+        }
+
+        if (node != null) {
+            // If key already exists, update it in place and record access
+            weightedSize += weight - node.getWeight();
+            node.setValue(value);
+            node.setWeight(weight);
+            recordAccess(node);
+        } else {
+            // New entry - add to map and record insertion
+            node = new CacheNode<>(key, value);
+            node.setWeight(weight);
+            map.put(key, node);
+            recordInsertion(node);
+            size++;
+            weightedSize += weight;
+        }
+        return node;
+    }
+
+    /**
+     * Evicts candidates selected by the strategy while capacity (or weight) is exceeded.
+     * Caller holds the write lock.
+     */
+    private void evictToFit() {
+        if (size > capacity || weightedSize > maximumWeight) {
+            CacheLatencies tracked = latencies;
+            long start = (tracked != null) ? System.nanoTime() : 0L;
+            while ((size > capacity || weightedSize > maximumWeight) && evict()) {
+                // keep evicting until the cache fits again
+            }
+            if (tracked != null) {
+                tracked.eviction().record(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Removes one entry. Caller holds the write lock.
+     */
+    private CacheNode<K, V> removeLocked(K key) {
+        CacheNode<K, V> node = map.remove(key);
+        if (node != null) {
+            recordRemoval(node);
+            size--;
+            weightedSize -= node.getWeight();
+        }
+        return node;
+    }
+
     /**
      * Removes an entry from the cache if present.
      * 
@@ -121,14 +483,14 @@ public class Cache<K, V> {
      * @return The value that was removed, or null if the key was not in the cache
      */
     public V remove(K key) {
-        lock.writeLock().lock();
+        awaitWriteBehindCapacity();
+        lockForWrite();
         try {
-            V value = map.remove(key);
-            if (value != null) {
-                evictionStrategy.recordRemoval(key);
-                size--;
+            CacheNode<K, V> node = removeLocked(key);
+            if (writeBehind != null) {
+                writeBehind.delete(key);
             }
-            return value;
+            return node == null ? null : node.getValue();
         } finally {
             lock.writeLock().unlock();
         }
@@ -167,6 +529,7 @@ public class Cache<K, V> {
 
     /**
      * Returns the maximum capacity of the cache.
+     * A weight-bounded cache has no entry limit and returns Integer.MAX_VALUE.
      * 
      * @return The capacity
      */
@@ -174,27 +537,402 @@ public class Cache<K, V> {
         return capacity;
     }
 
+    /**
+     * Returns the maximum total weight of the cache.
+     * For a cache bounded by entry count, every entry weighs 1, so this equals the capacity.
+     * 
+     * @return The maximum weight
+     */
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Returns the total weight of all entries currently in the cache.
+     * For a cache bounded by entry count, this equals the size.
+     * 
+     * @return The current total weight
+     */
+    public long weightedSize() {
+        lock.readLock().lock();
+        try {
+            return weightedSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     /**
      * Clears all entries from the cache.
      */
     public void clear() {
-        lock.writeLock().lock();
+        lockForWrite();
         try {
             map.clear();
-            evictionStrategy.clear();
+            if (nodeStrategy != null) {
+                nodeStrategy.clear();
+            } else {
+                evictionStrategy.clear();
+            }
             size = 0;
+            weightedSize = 0;
         } finally {
             lock.writeLock().unlock();
         }
     }
 
+    /**
+     * Writes all entries to a snapshot file, in eviction order and with the access
+     * frequencies of strategies that count them (see {@link RestorableStrategy}).
+     * 
+     * Entries are copied under the lock; encoding and writing happen after it is released.
+     * The file is written next to the given path and moved into place when complete.
+     * 
+     * @param path The snapshot file to create or replace
+     * @param keyCodec Encodes the keys
+     * @param valueCodec Encodes the values
+     * @return The number of entries written
+     * @throws IOException if the file cannot be written
+     */
+    public int snapshot(Path path, SnapshotCodec<K> keyCodec, SnapshotCodec<V> valueCodec) throws IOException {
+        List<K> keys;
+        List<V> values;
+        long[] frequencies;
+        lock.readLock().lock();
+        try {
+            List<CacheNode<K, V>> nodes = evictionOrder();
+            keys = new ArrayList<>(nodes.size());
+            values = new ArrayList<>(nodes.size());
+            frequencies = new long[nodes.size()];
+            for (int i = 0; i < nodes.size(); i++) {
+                CacheNode<K, V> node = nodes.get(i);
+                keys.add(node.getKey());
+                values.add(node.getValue());
+                frequencies[i] = frequency(node);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try (SnapshotFile.Writer writer = new SnapshotFile.Writer(path)) {
+            for (int i = 0; i < keys.size(); i++) {
+                writer.write(SnapshotFile.NO_EXPIRY, frequencies[i],
+                        keyCodec.encode(keys.get(i)), valueCodec.encode(values.get(i)));
+            }
+            writer.commit();
+        }
+        return keys.size();
+    }
+
+    /**
+     * Loads the entries of a snapshot file written by {@link #snapshot} (or by
+     * {@link TTLCache#snapshot}, in which case entries that have expired since are skipped).
+     * 
+     * Entries are inserted in the saved eviction order and get their saved frequencies back,
+     * so the strategy resumes where the snapshot left off. If the snapshot holds more than
+     * the cache can, the entries that would have been evicted first are dropped. Existing
+     * entries are kept unless the snapshot has the same key. The file is read sequentially
+     * through memory-mapped windows; restored entries are not counted as puts.
+     * 
+     * @param path The snapshot file
+     * @param keyCodec Decodes the keys
+     * @param valueCodec Decodes the values
+     * @return The number of entries restored
+     * @throws IOException if the file cannot be read or is not a cache snapshot
+     */
+    public int restore(Path path, SnapshotCodec<K> keyCodec, SnapshotCodec<V> valueCodec) throws IOException {
+        int restored = 0;
+        long now = System.currentTimeMillis();
+        try (SnapshotFile.Reader reader = new SnapshotFile.Reader(path)) {
+            while (reader.next()) {
+                if (reader.expiryTime() <= now) {
+                    continue;
+                }
+                K key = keyCodec.decode(reader.key());
+                V value = valueCodec.decode(reader.value());
+                int weight = weigh(key, value);
+                lockForWrite();
+                try {
+                    CacheNode<K, V> node = storeLocked(key, value, weight);
+                    if (node != null) {
+                        // Restore the frequency first, so eviction compares it with the others
+                        restoreFrequency(node, reader.frequency());
+                        evictToFit();
+                        restored++;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics: hits, misses, puts, loads and evictions.
+     * Recording uses striped counters, so statistics are always on and never add lock traffic.
+     * 
+     * @return An immutable snapshot of the statistics
+     */
+    public CacheStats stats() {
+        return stats.snapshot();
+    }
+
+    /**
+     * Starts recording latency histograms for get, put, write lock wait and eviction.
+     * Recording costs two System.nanoTime() calls and an atomic increment per measurement;
+     * while disabled (the default) it costs a volatile read per operation.
+     * 
+     * @return The histograms, which can be read at any time (also via {@link #latencies()})
+     */
+    public synchronized CacheLatencies enableLatencyTracking() {
+        if (latencies == null) {
+            latencies = new CacheLatencies();
+        }
+        return latencies;
+    }
+
+    /**
+     * Stops recording latency histograms. Histograms returned earlier keep their values.
+     */
+    public synchronized void disableLatencyTracking() {
+        latencies = null;
+    }
+
+    /**
+     * Returns the latency histograms, if tracking is enabled.
+     * 
+     * @return The histograms, or null if latency tracking is disabled
+     */
+    public CacheLatencies latencies() {
+        return latencies;
+    }
+
+    /**
+     * Enables write-behind: from now on, put, putAll, remove and removeAll are also queued
+     * for the writer, which a background thread calls with batches of coalesced changes.
+     * A batch is flushed once batchSize keys are dirty or the oldest dirty key has waited
+     * maxDelay. When maxPending keys are dirty, writers block (before taking the cache
+     * lock) until the background thread catches up. A blocked put or remove fails with an
+     * IllegalStateException, leaving the cache unchanged, if it is interrupted or if the
+     * background thread stops or stalls (see {@link WriteBehindQueue}). putAll and removeAll
+     * check for room once per call and may take the queue past maxPending by their size.
+     * 
+     * Values stored by loading gets are not written back, and neither eviction nor
+     * clear() deletes anything from the store. Stop with {@link #shutdownWriteBehind()}.
+     * 
+     * @param writer Receives the batches
+     * @param batchSize The number of dirty keys that triggers a flush, and the maximum batch size
+     * @param maxDelay The longest a change waits before it is flushed
+     * @param unit The time unit of maxDelay
+     * @param maxPending The number of dirty keys at which writers block (must be >= batchSize)
+     * @return The queue, which can be flushed and inspected
+     * @throws NullPointerException if writer is null
+     * @throws IllegalArgumentException if batchSize <= 0, maxDelay <= 0 or maxPending < batchSize
+     * @throws IllegalStateException if write-behind is already enabled
+     */
+    public synchronized WriteBehindQueue<K, V> enableWriteBehind(CacheWriter<K, V> writer, int batchSize,
+                                                                 long maxDelay, TimeUnit unit, int maxPending) {
+        if (writeBehind != null) {
+            throw new IllegalStateException("Write-behind is already enabled");
+        }
+        WriteBehindQueue<K, V> queue = new WriteBehindQueue<>(writer, batchSize, maxDelay, unit, maxPending);
+        lockForWrite();
+        try {
+            writeBehind = queue;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return queue;
+    }
+
+    /**
+     * Disables write-behind, writes the changes still queued and stops the background thread.
+     */
+    public synchronized void shutdownWriteBehind() {
+        WriteBehindQueue<K, V> queue = writeBehind;
+        if (queue == null) {
+            return;
+        }
+        // Swap under the cache lock, so no put can queue a change after the final flush
+        lockForWrite();
+        try {
+            writeBehind = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        queue.close();
+    }
+
+    /**
+     * Returns the write-behind queue, if write-behind is enabled.
+     * 
+     * @return The queue, or null if write-behind is disabled
+     */
+    public WriteBehindQueue<K, V> writeBehind() {
+        return writeBehind;
+    }
+
     /**
      * Returns the type of eviction strategy being used.
      * 
      * @return The class name of the eviction strategy
      */
     public String getEvictionStrategyName() {
-        return evictionStrategy.getClass().getSimpleName();
+        Object strategy = (nodeStrategy != null) ? nodeStrategy : evictionStrategy;
+        return strategy.getClass().getSimpleName();
+    }
+
+    // ---- Strategy dispatch (callers hold the write lock) ----
+
+    private void recordAccess(CacheNode<K, V> node) {
+        if (nodeStrategy != null) {
+            nodeStrategy.recordAccess(node);
+        } else {
+            evictionStrategy.recordAccess(node.getKey());
+        }
+    }
+
+    private void recordInsertion(CacheNode<K, V> node) {
+        if (nodeStrategy != null) {
+            nodeStrategy.recordInsertion(node);
+        } else {
+            evictionStrategy.recordInsertion(node.getKey());
+        }
+    }
+
+    private void recordRemoval(CacheNode<K, V> node) {
+        if (nodeStrategy != null) {
+            nodeStrategy.recordRemoval(node);
+        } else {
+            evictionStrategy.recordRemoval(node.getKey());
+        }
+    }
+
+    /**
+     * Returns the nodes from the next victim to the most protected one, or in map order
+     * if the strategy doesn't expose its order. Caller holds the lock.
+     */
+    @SuppressWarnings("unchecked")
+    private List<CacheNode<K, V>> evictionOrder() {
+        if (nodeStrategy instanceof RestorableStrategy) {
+            return ((RestorableStrategy<CacheNode<K, V>>) nodeStrategy).evictionOrder();
+        }
+        if (evictionStrategy instanceof RestorableStrategy) {
+            List<K> keys = ((RestorableStrategy<K>) evictionStrategy).evictionOrder();
+            List<CacheNode<K, V>> nodes = new ArrayList<>(keys.size());
+            for (K key : keys) {
+                CacheNode<K, V> node = map.get(key);
+                if (node != null) {
+                    nodes.add(node);
+                }
+            }
+            return nodes;
+        }
+        return new ArrayList<>(map.values());
+    }
+
+    @SuppressWarnings("unchecked")
+    private long frequency(CacheNode<K, V> node) {
+        if (nodeStrategy instanceof RestorableStrategy) {
+            return ((RestorableStrategy<CacheNode<K, V>>) nodeStrategy).frequency(node);
+        }
+        if (evictionStrategy instanceof RestorableStrategy) {
+            return ((RestorableStrategy<K>) evictionStrategy).frequency(node.getKey());
+        }
+        return 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void restoreFrequency(CacheNode<K, V> node, long frequency) {
+        if (nodeStrategy instanceof RestorableStrategy) {
+            ((RestorableStrategy<CacheNode<K, V>>) nodeStrategy).restoreFrequency(node, frequency);
+        } else if (evictionStrategy instanceof RestorableStrategy) {
+            ((RestorableStrategy<K>) evictionStrategy).restoreFrequency(node.getKey(), frequency);
+        }
+    }
+
+    /**
+     * Applies write-behind back-pressure. Must be called before taking the lock.
+     */
+    private void awaitWriteBehindCapacity() {
+        WriteBehindQueue<K, V> queue = writeBehind;
+        if (queue != null) {
+            queue.awaitCapacity();
+        }
+    }
+
+    /**
+     * Acquires the write lock, recording the wait when latency tracking is enabled.
+     */
+    private void lockForWrite() {
+        acquire(lock.writeLock(), true);
+    }
+
+    /**
+     * Acquires the lock for a lookup: the read lock if the strategy records accesses
+     * lock-free, otherwise the write lock.
+     * 
+     * @return The lock to release
+     */
+    private Lock lockForLookup() {
+        Lock lookupLock = lockFreeAccess ? lock.readLock() : lock.writeLock();
+        acquire(lookupLock, !lockFreeAccess);
+        return lookupLock;
+    }
+
+    /**
+     * Acquires the lock, recording the wait in the write or read lock wait histogram when
+     * latency tracking is enabled.
+     */
+    private void acquire(Lock toAcquire, boolean write) {
+        CacheLatencies tracked = latencies;
+        if (tracked == null) {
+            toAcquire.lock();
+            return;
+        }
+        long start = System.nanoTime();
+        toAcquire.lock();
+        (write ? tracked.lockWait() : tracked.readLockWait()).record(System.nanoTime() - start);
+    }
+
+    /**
+     * Computes the weight of an entry; 1 for caches bounded by entry count.
+     */
+    private int weigh(K key, V value) {
+        if (weigher == null) {
+            return 1;
+        }
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight must be >= 0");
+        }
+        return weight;
+    }
+
+    /**
+     * Removes the entry selected by the strategy, if any.
+     * 
+     * @return true if an entry was evicted
+     */
+    private boolean evict() {
+        CacheNode<K, V> victim;
+        if (nodeStrategy != null) {
+            victim = nodeStrategy.selectEvictionCandidate();
+        } else {
+            K evictionCandidate = evictionStrategy.selectEvictionCandidate();
+            victim = (evictionCandidate == null) ? null : map.get(evictionCandidate);
+        }
+        if (victim == null) {
+            return false;
+        }
+        EvictionCause cause = (size > capacity) ? EvictionCause.SIZE : EvictionCause.WEIGHT;
+        map.remove(victim.getKey());
+        recordRemoval(victim);
+        size--;
+        weightedSize -= victim.getWeight();
+        stats.recordEviction(cause);
+        return true;
     }
 
     @Override
@@ -205,6 +943,7 @@ public class Cache<K, V> {
             sb.append("Cache{")
                     .append("capacity=").append(capacity)
                     .append(", size=").append(size)
+                    .append(weigher != null ? ", weightedSize=" + weightedSize + "/" + maximumWeight : "")
                     .append(", strategy=").append(getEvictionStrategyName())
                     .append(", entries=").append(map)
                     .append("}");
@@ -9,6 +9,9 @@ package com.smartload.lru;
 public class CacheEntry<V> {
     private final V value;
     private final long expiryTime; // Absolute time in milliseconds when entry expires
+    private final long writeTime;  // Absolute time in milliseconds when entry was written
+    private final long ttlMillis;
+    private volatile long refreshRetryTime; // Earliest time a failed refresh may be retried
     
     /**
      * Creates a cache entry with a TTL.
@@ -17,12 +20,25 @@ public class CacheEntry<V> {
      * @param ttlMillis Time-to-live in milliseconds. Use Long.MAX_VALUE for no expiry.
      */
     public CacheEntry(V value, long ttlMillis) {
+        this(value, ttlMillis, System.currentTimeMillis());
+    }
+
+    /**
+     * Creates a cache entry with a TTL, written at the given time.
+     * 
+     * @param value The value to store
+     * @param ttlMillis Time-to-live in milliseconds. Use Long.MAX_VALUE for no expiry.
+     * @param now The current time in milliseconds
+     */
+    CacheEntry(V value, long ttlMillis, long now) {
         this.value = value;
+        this.writeTime = now;
+        this.ttlMillis = ttlMillis;
         // Prevent overflow when ttlMillis is Long.MAX_VALUE
         if (ttlMillis == Long.MAX_VALUE) {
             this.expiryTime = Long.MAX_VALUE;
         } else {
-            this.expiryTime = System.currentTimeMillis() + ttlMillis;
+            this.expiryTime = writeTime + ttlMillis;
         }
     }
     
@@ -33,6 +49,8 @@ public class CacheEntry<V> {
      */
     public CacheEntry(V value) {
         this.value = value;
+        this.writeTime = System.currentTimeMillis();
+        this.ttlMillis = Long.MAX_VALUE;
         this.expiryTime = Long.MAX_VALUE;
     }
     
@@ -51,7 +69,17 @@ public class CacheEntry<V> {
      * @return true if the current time is past the expiry time, false otherwise
      */
     public boolean isExpired() {
-        return System.currentTimeMillis() > expiryTime;
+        return isExpired(System.currentTimeMillis());
+    }
+    
+    /**
+     * Checks if this entry has expired at the given time.
+     * 
+     * @param now The current time in milliseconds
+     * @return true if the given time is past the expiry time, false otherwise
+     */
+    public boolean isExpired(long now) {
+        return now > expiryTime;
     }
     
     /**
@@ -60,8 +88,17 @@ public class CacheEntry<V> {
      * @return Milliseconds until expiry, or 0 if already expired
      */
     public long getRemainingTTL() {
-        long remaining = expiryTime - System.currentTimeMillis();
-        return Math.max(0, remaining);
+        return getRemainingTTL(System.currentTimeMillis());
+    }
+    
+    /**
+     * Gets the remaining time to live at the given time.
+     * 
+     * @param now The current time in milliseconds
+     * @return Milliseconds until expiry, or 0 if already expired
+     */
+    public long getRemainingTTL(long now) {
+        return Math.max(0, expiryTime - now);
     }
     
     /**
@@ -73,6 +110,42 @@ public class CacheEntry<V> {
         return expiryTime;
     }
     
+    /**
+     * Gets the time the entry was written.
+     * 
+     * @return Unix timestamp in milliseconds
+     */
+    public long getWriteTime() {
+        return writeTime;
+    }
+    
+    /**
+     * Gets the time-to-live the entry was written with.
+     * 
+     * @return Time-to-live in milliseconds, or Long.MAX_VALUE for no expiry
+     */
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+    
+    /**
+     * Gets the earliest time a refresh may be retried after a failed one.
+     * 
+     * @return Unix timestamp in milliseconds, or 0 if no refresh has failed
+     */
+    long getRefreshRetryTime() {
+        return refreshRetryTime;
+    }
+    
+    /**
+     * Postpones the next refresh of this entry after a failed one.
+     * 
+     * @param retryTime The earliest time to retry, in milliseconds
+     */
+    void setRefreshRetryTime(long retryTime) {
+        this.refreshRetryTime = retryTime;
+    }
+    
     @Override
     public String toString() {
         return "CacheEntry{" +
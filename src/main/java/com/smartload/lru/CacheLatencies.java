@@ -0,0 +1,71 @@
+package com.smartload.lru;
+
+/**
+ * Latency histograms of a {@link Cache}, recorded once enabled with
+ * {@link Cache#enableLatencyTracking()}:
+ * - get: the whole lookup, including the wait for the lock
+ * - put: the whole insert or update, including lock wait and eviction
+ * - lock wait: the time spent acquiring the write lock, for every operation that takes it
+ * - read lock wait: the time spent acquiring the read lock, taken instead of the write lock
+ *   by lookups when the strategy records accesses lock-free ({@link LockFreeAccess})
+ * - eviction: the time spent evicting when a put overflowed the cache
+ * - load: the time spent in the CacheLoader, successful or not, by get(key, loader)
+ *   (one value per load, however many callers waited for it) and getAll(keys, loader)
+ *   (one value per loadAll call)
+ *
+ * Comparing the lock wait distribution with the get and put distributions shows directly
+ * how much of the latency is contention on the cache lock.
+ */
+public final class CacheLatencies {
+    private final LatencyHistogram get = new LatencyHistogram();
+    private final LatencyHistogram put = new LatencyHistogram();
+    private final LatencyHistogram lockWait = new LatencyHistogram();
+    private final LatencyHistogram readLockWait = new LatencyHistogram();
+    private final LatencyHistogram eviction = new LatencyHistogram();
+    private final LatencyHistogram load = new LatencyHistogram();
+
+    CacheLatencies() {
+    }
+
+    /** Returns the histogram of get latencies (get, getIfPresent, getAll). */
+    public LatencyHistogram get() {
+        return get;
+    }
+
+    /** Returns the histogram of put latencies (put, putAll). */
+    public LatencyHistogram put() {
+        return put;
+    }
+
+    /** Returns the histogram of write lock acquisition times. */
+    public LatencyHistogram lockWait() {
+        return lockWait;
+    }
+
+    /** Returns the histogram of read lock acquisition times (lookups with lock-free access). */
+    public LatencyHistogram readLockWait() {
+        return readLockWait;
+    }
+
+    /** Returns the histogram of eviction times. */
+    public LatencyHistogram eviction() {
+        return eviction;
+    }
+
+    /** Returns the histogram of load times (get and getAll with a loader). */
+    public LatencyHistogram load() {
+        return load;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheLatencies{" +
+                "get=" + get.snapshot() +
+                ", put=" + put.snapshot() +
+                ", lockWait=" + lockWait.snapshot() +
+                ", readLockWait=" + readLockWait.snapshot() +
+                ", eviction=" + eviction.snapshot() +
+                ", load=" + load.snapshot() +
+                "}";
+    }
+}
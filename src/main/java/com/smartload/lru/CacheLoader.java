@@ -0,0 +1,51 @@
+package com.smartload.lru;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Computes the value for a key that is missing from a cache.
+ *
+ * Used by {@link Cache#get(Object, CacheLoader)} and {@link TTLCache#get(Object, CacheLoader)},
+ * which guarantee that at most one load per key is in flight: concurrent callers missing on
+ * the same key wait for that load instead of calling the loader themselves. The bulk
+ * getAll(keys, loader) methods call {@link #loadAll(Set)} once for all missing keys.
+ *
+ * <pre>
+ *   User user = cache.get(userId, id -> userRepository.findById(id));
+ * </pre>
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+@FunctionalInterface
+public interface CacheLoader<K, V> {
+
+    /**
+     * Loads the value for the key.
+     *
+     * @param key The key to load
+     * @return The value, or null if there is none (null values are not cached)
+     * @throws Exception if the value cannot be loaded; it is rethrown to every waiting caller
+     */
+    V load(K key) throws Exception;
+
+    /**
+     * Loads the values for several keys at once; used by the caches' getAll(keys, loader)
+     * for the keys that are missing. The default implementation calls {@link #load(Object)}
+     * for each key. Override it when the backend supports batch reads (e.g. a multi-get or
+     * an SQL IN query).
+     *
+     * @param keys The missing keys
+     * @return The loaded values; keys without a value may be absent or mapped to null
+     * @throws Exception if the values cannot be loaded
+     */
+    default Map<K, V> loadAll(Set<? extends K> keys) throws Exception {
+        Map<K, V> values = new LinkedHashMap<>();
+        for (K key : keys) {
+            values.put(key, load(key));
+        }
+        return values;
+    }
+}
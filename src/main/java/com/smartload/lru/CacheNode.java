@@ -0,0 +1,104 @@
+package com.smartload.lru;
+
+/**
+ * Storage node for a single cache entry that doubles as an eviction-list element.
+ *
+ * {@link Cache} stores one CacheNode per key in its map. A {@link NodeEvictionStrategy}
+ * links these same nodes into its own ordering (via the previous/next references), so
+ * the strategy does not need a second hash map keyed by the same keys, and recording
+ * an access is a couple of pointer updates instead of a hash lookup.
+ *
+ * A node is owned by exactly one cache and is only read or modified while that cache's
+ * lock is held. Strategies may use the links freely, but must not change key or value.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public final class CacheNode<K, V> {
+    private final K key;
+    private V value;
+    private int weight = 1;
+    private CacheNode<K, V> previous;
+    private CacheNode<K, V> next;
+
+    CacheNode(K key, V value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    /**
+     * Gets the key of this entry.
+     *
+     * @return The key
+     */
+    public K getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the value of this entry.
+     *
+     * @return The value
+     */
+    public V getValue() {
+        return value;
+    }
+
+    void setValue(V value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the weight of this entry (1 unless the cache uses a {@link Weigher}).
+     *
+     * @return The weight
+     */
+    public int getWeight() {
+        return weight;
+    }
+
+    void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Gets the previous node in the strategy's ordering.
+     *
+     * @return The previous node, or null if this is the first node (or unlinked)
+     */
+    public CacheNode<K, V> getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Sets the previous node in the strategy's ordering.
+     *
+     * @param previous The previous node, or null
+     */
+    public void setPrevious(CacheNode<K, V> previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Gets the next node in the strategy's ordering.
+     *
+     * @return The next node, or null if this is the last node (or unlinked)
+     */
+    public CacheNode<K, V> getNext() {
+        return next;
+    }
+
+    /**
+     * Sets the next node in the strategy's ordering.
+     *
+     * @param next The next node, or null
+     */
+    public void setNext(CacheNode<K, V> next) {
+        this.next = next;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
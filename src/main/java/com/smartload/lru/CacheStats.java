@@ -0,0 +1,189 @@
+package com.smartload.lru;
+
+import java.util.Arrays;
+
+/**
+ * Immutable snapshot of a cache's statistics, returned by {@code stats()}.
+ *
+ * Counters only ever grow; subtract two snapshots with {@link #minus(CacheStats)} to get the
+ * activity of an interval. Because the counters are read one after another while the cache is
+ * in use, a snapshot is not an atomic view (e.g. hitCount + missCount may lag requestCount of a
+ * later snapshot), which is fine for monitoring.
+ */
+public final class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long putCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long totalLoadTime;
+    private final long[] evictionCounts;
+
+    CacheStats(long hitCount, long missCount, long putCount, long loadSuccessCount,
+               long loadFailureCount, long totalLoadTime, long[] evictionCounts) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCounts = evictionCounts;
+    }
+
+    /** Returns the number of lookups (hits plus misses). */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /** Returns the number of lookups that found a live entry. */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /** Returns the number of lookups that found no entry (or an expired one). */
+    public long missCount() {
+        return missCount;
+    }
+
+    /** Returns hitCount / requestCount, or 1.0 if there were no requests. */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /** Returns missCount / requestCount, or 0.0 if there were no requests. */
+    public double missRate() {
+        long requests = requestCount();
+        return requests == 0 ? 0.0 : (double) missCount / requests;
+    }
+
+    /** Returns the number of entries inserted or updated through put. */
+    public long putCount() {
+        return putCount;
+    }
+
+    /** Returns the number of loader calls that returned normally. */
+    public long loadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    /** Returns the number of loader calls that threw. */
+    public long loadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /** Returns the total time spent in loaders, in nanoseconds. */
+    public long totalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /** Returns the average time of a loader call in nanoseconds, or 0.0 if there were none. */
+    public double averageLoadPenalty() {
+        long loads = loadSuccessCount + loadFailureCount;
+        return loads == 0 ? 0.0 : (double) totalLoadTime / loads;
+    }
+
+    /** Returns the number of entries the cache removed on its own, for any cause. */
+    public long evictionCount() {
+        long total = 0;
+        for (long count : evictionCounts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /** Returns the number of entries the cache removed on its own for the given cause. */
+    public long evictionCount(EvictionCause cause) {
+        return evictionCounts[cause.ordinal()];
+    }
+
+    /** Returns the number of entries removed because their TTL ran out. */
+    public long expirationCount() {
+        return evictionCount(EvictionCause.EXPIRED);
+    }
+
+    /**
+     * Returns the difference between this snapshot and an earlier one.
+     *
+     * @param earlier A snapshot taken before this one
+     * @return The statistics of the interval between the two snapshots
+     */
+    public CacheStats minus(CacheStats earlier) {
+        long[] evictions = new long[evictionCounts.length];
+        for (int i = 0; i < evictions.length; i++) {
+            evictions[i] = evictionCounts[i] - earlier.evictionCounts[i];
+        }
+        return new CacheStats(
+                hitCount - earlier.hitCount,
+                missCount - earlier.missCount,
+                putCount - earlier.putCount,
+                loadSuccessCount - earlier.loadSuccessCount,
+                loadFailureCount - earlier.loadFailureCount,
+                totalLoadTime - earlier.totalLoadTime,
+                evictions);
+    }
+
+    /**
+     * Returns the sum of this snapshot and another one, e.g. to combine the segments of a cache.
+     *
+     * @param other The snapshot to add
+     * @return The combined statistics
+     */
+    public CacheStats plus(CacheStats other) {
+        long[] evictions = new long[evictionCounts.length];
+        for (int i = 0; i < evictions.length; i++) {
+            evictions[i] = evictionCounts[i] + other.evictionCounts[i];
+        }
+        return new CacheStats(
+                hitCount + other.hitCount,
+                missCount + other.missCount,
+                putCount + other.putCount,
+                loadSuccessCount + other.loadSuccessCount,
+                loadFailureCount + other.loadFailureCount,
+                totalLoadTime + other.totalLoadTime,
+                evictions);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CacheStats)) {
+            return false;
+        }
+        CacheStats other = (CacheStats) o;
+        return hitCount == other.hitCount
+                && missCount == other.missCount
+                && putCount == other.putCount
+                && loadSuccessCount == other.loadSuccessCount
+                && loadFailureCount == other.loadFailureCount
+                && totalLoadTime == other.totalLoadTime
+                && Arrays.equals(evictionCounts, other.evictionCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(hitCount);
+        result = 31 * result + Long.hashCode(missCount);
+        result = 31 * result + Long.hashCode(putCount);
+        result = 31 * result + Long.hashCode(loadSuccessCount);
+        result = 31 * result + Long.hashCode(loadFailureCount);
+        result = 31 * result + Long.hashCode(totalLoadTime);
+        return 31 * result + Arrays.hashCode(evictionCounts);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", putCount=" + putCount +
+                ", loadSuccessCount=" + loadSuccessCount +
+                ", loadFailureCount=" + loadFailureCount +
+                ", totalLoadTime=" + totalLoadTime +
+                ", evictionCount=" + evictionCount() +
+                ", expirationCount=" + expirationCount() +
+                "}";
+    }
+}
@@ -0,0 +1,41 @@
+package com.smartload.lru;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Receives the writes of a cache in write-behind mode (see {@link Cache#enableWriteBehind}).
+ *
+ * Both methods are called on the write-behind thread with batches of coalesced changes:
+ * a key appears at most once per batch, with its latest value. If a method throws, the
+ * batch is retried after the maximum delay (unless newer changes to the same keys arrived
+ * meanwhile, which then win).
+ *
+ * <pre>
+ *   cache.enableWriteBehind(new CacheWriter<>() {
+ *       public void writeAll(Map<String, User> users) { userRepository.saveAll(users.values()); }
+ *       public void deleteAll(Collection<String> ids) { userRepository.deleteAllById(ids); }
+ *   }, 500, 1, TimeUnit.SECONDS, 10_000);
+ * </pre>
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public interface CacheWriter<K, V> {
+
+    /**
+     * Stores a batch of entries that were put into the cache.
+     *
+     * @param entries The entries, in the order they first became dirty
+     * @throws Exception if the batch cannot be stored
+     */
+    void writeAll(Map<K, V> entries) throws Exception;
+
+    /**
+     * Deletes a batch of keys that were removed from the cache.
+     *
+     * @param keys The removed keys
+     * @throws Exception if the keys cannot be deleted
+     */
+    void deleteAll(Collection<K> keys) throws Exception;
+}
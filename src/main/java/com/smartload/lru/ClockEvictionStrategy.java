@@ -0,0 +1,156 @@
+package com.smartload.lru;
+
+import java.util.Arrays;
+
+/**
+ * CLOCK eviction strategy implementation.
+ *
+ * Approximates LRU with a reference bit per entry instead of a recency list:
+ * - Entries occupy the slots of a flat array, which is treated as a ring
+ * - A hit sets the entry's reference bit; nothing is moved
+ * - To evict, a hand sweeps the ring from where it last stopped, clearing set reference
+ *   bits ("second chance"), and evicts the first entry whose bit is already clear
+ *
+ * The state is a few flat arrays sized from the capacity: keys by slot, an open-addressing
+ * table of slot numbers, a free-slot stack, occupancy flags and a bitset of reference bits.
+ * That is the key reference plus about 14 bytes per entry, with no per-entry objects and no
+ * allocation per access.
+ * The arrays grow if the cache holds more entries than expected (e.g. a weight-bounded cache).
+ *
+ * The strategy should be created with the capacity of the cache it is plugged into:
+ * <pre>
+ *   Cache<String, String> cache = new Cache<>(1000, new ClockEvictionStrategy<>(1000));
+ * </pre>
+ *
+ * Null keys are not supported.
+ *
+ * Time Complexity:
+ * - recordAccess: O(1)
+ * - recordInsertion: O(1) amortized
+ * - recordRemoval: O(1)
+ * - selectEvictionCandidate: O(1) amortized
+ */
+public class ClockEvictionStrategy<K, V> implements EvictionStrategy<K, V> {
+
+    private final SlotTable<K> index;
+    private long[] referenced;
+    private boolean[] occupied;
+    private int[] freeSlots;
+    private int freeCount;
+    private int size;
+    private int hand;
+    /** The slot of the entry just inserted, which must not be its own eviction victim. */
+    private int lastInserted = -1;
+
+    /**
+     * Creates a CLOCK strategy for a cache of the given capacity.
+     *
+     * @param maximumSize The capacity of the cache this strategy is used with (must be > 0)
+     * @throws IllegalArgumentException if maximumSize <= 0
+     */
+    public ClockEvictionStrategy(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be > 0");
+        }
+        // One spare slot holds a new entry until the cache evicts
+        int slots = maximumSize + 1;
+        this.index = new SlotTable<>(slots);
+        this.referenced = new long[(slots + 63) >>> 6];
+        this.occupied = new boolean[slots];
+        this.freeSlots = new int[slots];
+        resetFreeSlots(0);
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        int slot = index.find(key);
+        if (slot >= 0) {
+            referenced[slot >>> 6] |= 1L << slot;
+        }
+    }
+
+    @Override
+    public void recordInsertion(K key) {
+        if (index.find(key) >= 0) {
+            recordAccess(key);
+            return;
+        }
+        if (freeCount == 0) {
+            grow();
+        }
+        int slot = freeSlots[--freeCount];
+        index.put(key, slot);
+        occupied[slot] = true;
+        referenced[slot >>> 6] &= ~(1L << slot);
+        lastInserted = slot;
+        size++;
+    }
+
+    @Override
+    public void recordRemoval(K key) {
+        int slot = index.find(key);
+        if (slot < 0) {
+            return;
+        }
+        index.remove(slot);
+        occupied[slot] = false;
+        referenced[slot >>> 6] &= ~(1L << slot);
+        freeSlots[freeCount++] = slot;
+        if (slot == lastInserted) {
+            lastInserted = -1;
+        }
+        size--;
+    }
+
+    @Override
+    public K selectEvictionCandidate() {
+        if (size == 0) {
+            return null;
+        }
+        int slots = occupied.length;
+        // Each entry's bit is cleared on the first pass, so this ends within two passes
+        for (int step = 0; step <= 2 * slots; step++) {
+            int slot = hand;
+            hand = (hand + 1 == slots) ? 0 : hand + 1;
+            if (!occupied[slot] || (slot == lastInserted && size > 1)) {
+                continue;
+            }
+            long bit = 1L << slot;
+            if ((referenced[slot >>> 6] & bit) != 0) {
+                referenced[slot >>> 6] &= ~bit; // second chance
+                continue;
+            }
+            return index.keyAt(slot);
+        }
+        return index.keyAt(lastInserted);
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+        Arrays.fill(referenced, 0L);
+        Arrays.fill(occupied, false);
+        resetFreeSlots(0);
+        size = 0;
+        hand = 0;
+        lastInserted = -1;
+    }
+
+    private void grow() {
+        int oldSlots = occupied.length;
+        int slots = oldSlots * 2;
+        index.resize(slots);
+        referenced = Arrays.copyOf(referenced, (slots + 63) >>> 6);
+        occupied = Arrays.copyOf(occupied, slots);
+        freeSlots = new int[slots];
+        resetFreeSlots(oldSlots);
+    }
+
+    /** Puts every slot from the given one up into the free stack, lowest slot on top. */
+    private void resetFreeSlots(int from) {
+        freeCount = 0;
+        for (int slot = occupied.length - 1; slot >= from; slot--) {
+            freeSlots[freeCount++] = slot;
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.smartload.lru;
+
+import java.util.Arrays;
+
+/**
+ * CLOCK-Pro eviction strategy implementation.
+ *
+ * Adds the hot/cold distinction of LIRS to {@link ClockEvictionStrategy}, so that a
+ * scan of one-time keys cannot flush the entries that are reused:
+ * - Resident entries are hot (proven reuse) or cold (seen once recently). New keys enter cold
+ * - Evicted cold entries stay in the ring as non-resident test entries (keys only) for a while
+ * - A cold entry that is hit before the cold hand reaches it is promoted to hot; a key
+ *   inserted again while it is a test entry comes back hot
+ * - Three hands sweep one ring: the cold hand evicts unreferenced cold entries, the hot hand
+ *   demotes unreferenced hot entries to cold when there are too many, and the test hand drops
+ *   the oldest test entries
+ * - The share of cold entries adapts: a hit on a test entry grows it (a larger cold share
+ *   would have kept the entry), a test entry dropped without a hit shrinks it
+ *
+ * Like CLOCK, a hit only sets a reference bit, and all state lives in flat arrays indexed by
+ * slot (keys, ring links, status and reference flags), with no per-entry objects.
+ * This is the simplified form of the algorithm: the hands never trigger each other, so a
+ * hand movement never evicts a resident entry the cache did not ask for.
+ *
+ * Because the hot/cold balance and the number of test entries derive from the cache
+ * capacity, the strategy must be created with the same capacity as the cache:
+ * <pre>
+ *   Cache<String, String> cache = new Cache<>(1000, new ClockProEvictionStrategy<>(1000));
+ * </pre>
+ *
+ * Null keys are not supported.
+ *
+ * Time Complexity:
+ * - recordAccess: O(1)
+ * - recordInsertion: O(1) amortized
+ * - recordRemoval: O(1) amortized
+ * - selectEvictionCandidate: O(1) amortized
+ */
+public class ClockProEvictionStrategy<K, V> implements EvictionStrategy<K, V> {
+
+    private static final byte FREE = 0;
+    private static final byte HOT = 1;
+    private static final byte COLD = 2;
+    private static final byte TEST = 3;
+
+    private final int maximumSize;
+
+    private final SlotTable<K> index;
+    /** The ring: a circular doubly linked list of the used slots. */
+    private int[] next;
+    private int[] prev;
+    private byte[] status;
+    private boolean[] referenced;
+    private int[] freeSlots;
+    private int freeCount;
+
+    private int handHot = -1;
+    private int handCold = -1;
+    private int handTest = -1;
+
+    private int hotCount;
+    private int coldCount;
+    private int testCount;
+    /** Target number of resident cold entries. */
+    private int coldTarget;
+    private final int initialColdTarget;
+
+    /** The slot of the entry just inserted, which must not be its own eviction victim. */
+    private int lastInserted = -1;
+    /** The slot returned by the last selectEvictionCandidate(); its removal makes it a test entry. */
+    private int pendingVictim = -1;
+
+    /**
+     * Creates a CLOCK-Pro strategy for a cache of the given capacity.
+     *
+     * @param maximumSize The capacity of the cache this strategy is used with (must be > 0)
+     * @throws IllegalArgumentException if maximumSize <= 0
+     */
+    public ClockProEvictionStrategy(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be > 0");
+        }
+        this.maximumSize = maximumSize;
+        this.initialColdTarget = Math.max(1, maximumSize / 10);
+        this.coldTarget = initialColdTarget;
+        // Up to maximumSize + 1 resident entries (until the cache evicts) and maximumSize test entries
+        int slots = 2 * maximumSize + 2;
+        this.index = new SlotTable<>(slots);
+        this.next = new int[slots];
+        this.prev = new int[slots];
+        this.status = new byte[slots];
+        this.referenced = new boolean[slots];
+        this.freeSlots = new int[slots];
+        resetFreeSlots(0);
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        int slot = index.find(key);
+        if (slot >= 0 && status[slot] != TEST) {
+            referenced[slot] = true;
+        }
+    }
+
+    @Override
+    public void recordInsertion(K key) {
+        int slot = index.find(key);
+        if (slot >= 0 && status[slot] != TEST) {
+            referenced[slot] = true;
+            return;
+        }
+        if (slot >= 0) {
+            // Reused within its test period: a larger cold share would have kept it
+            coldTarget = Math.min(maximumSize, coldTarget + 1);
+            testCount--;
+            unlink(slot);
+            status[slot] = HOT;
+            hotCount++;
+        } else {
+            if (freeCount == 0) {
+                grow();
+            }
+            slot = freeSlots[--freeCount];
+            index.put(key, slot);
+            status[slot] = COLD;
+            coldCount++;
+        }
+        referenced[slot] = false;
+        linkAtHead(slot);
+        lastInserted = slot;
+        balanceHot();
+    }
+
+    @Override
+    public void recordRemoval(K key) {
+        int slot = index.find(key);
+        if (slot < 0) {
+            return;
+        }
+        if (slot == lastInserted) {
+            lastInserted = -1;
+        }
+        if (slot == pendingVictim) {
+            pendingVictim = -1;
+            if (status[slot] == COLD) {
+                // Evicted: keep the key as a test entry
+                coldCount--;
+                status[slot] = TEST;
+                referenced[slot] = false;
+                testCount++;
+                while (testCount > maximumSize) {
+                    runTestHand();
+                }
+                return;
+            }
+        }
+        delete(slot);
+    }
+
+    @Override
+    public K selectEvictionCandidate() {
+        int resident = hotCount + coldCount;
+        if (resident == 0) {
+            return null;
+        }
+        if (resident == 1 && lastInserted >= 0) {
+            return victim(lastInserted);
+        }
+        int ringSize = resident + testCount;
+        for (int step = 0; ; step++) {
+            if (step > 2 * ringSize && hotCount > 0) {
+                // Everything else is hot and within the hot share (e.g. after explicit removals)
+                runHotHand();
+            }
+            int slot = handCold;
+            handCold = next[slot];
+            if (status[slot] != COLD || slot == lastInserted) {
+                continue;
+            }
+            if (!referenced[slot]) {
+                return victim(slot);
+            }
+            // Hit while cold: promote it
+            referenced[slot] = false;
+            status[slot] = HOT;
+            coldCount--;
+            hotCount++;
+            balanceHot();
+        }
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+        Arrays.fill(status, FREE);
+        Arrays.fill(referenced, false);
+        resetFreeSlots(0);
+        handHot = -1;
+        handCold = -1;
+        handTest = -1;
+        hotCount = 0;
+        coldCount = 0;
+        testCount = 0;
+        coldTarget = initialColdTarget;
+        lastInserted = -1;
+        pendingVictim = -1;
+    }
+
+    /** Returns the number of resident hot entries. */
+    int hotCount() {
+        return hotCount;
+    }
+
+    /** Returns the number of non-resident test entries. */
+    int testCount() {
+        return testCount;
+    }
+
+    /** Returns the current target number of resident cold entries. */
+    int coldTarget() {
+        return coldTarget;
+    }
+
+    private K victim(int slot) {
+        pendingVictim = slot;
+        return index.keyAt(slot);
+    }
+
+    /** Demotes hot entries while there are more than the hot share allows. */
+    private void balanceHot() {
+        while (hotCount > 0 && hotCount > maximumSize - coldTarget) {
+            runHotHand();
+        }
+    }
+
+    private void runHotHand() {
+        // Each hot entry's bit is cleared on the first pass, so this demotes within two passes
+        while (true) {
+            int slot = handHot;
+            handHot = next[slot];
+            if (status[slot] == HOT) {
+                if (!referenced[slot]) {
+                    status[slot] = COLD;
+                    hotCount--;
+                    coldCount++;
+                    return;
+                }
+                referenced[slot] = false;
+            }
+        }
+    }
+
+    private void runTestHand() {
+        while (true) {
+            int slot = handTest;
+            handTest = next[slot];
+            if (status[slot] == TEST) {
+                // Not reused within its test period: shrink the cold share
+                delete(slot);
+                coldTarget = Math.max(1, coldTarget - 1);
+                return;
+            }
+        }
+    }
+
+    private void delete(int slot) {
+        switch (status[slot]) {
+            case HOT:
+                hotCount--;
+                break;
+            case COLD:
+                coldCount--;
+                break;
+            case TEST:
+                testCount--;
+                break;
+            default:
+                break;
+        }
+        unlink(slot);
+        index.remove(slot);
+        status[slot] = FREE;
+        referenced[slot] = false;
+        freeSlots[freeCount++] = slot;
+    }
+
+    /** Links the slot in just behind the hot hand, so that it is the last one the hands reach. */
+    private void linkAtHead(int slot) {
+        if (handHot < 0) {
+            next[slot] = slot;
+            prev[slot] = slot;
+            handHot = slot;
+            handCold = slot;
+            handTest = slot;
+            return;
+        }
+        int before = prev[handHot];
+        next[before] = slot;
+        prev[slot] = before;
+        next[slot] = handHot;
+        prev[handHot] = slot;
+    }
+
+    private void unlink(int slot) {
+        int after = next[slot];
+        if (after == slot) {
+            handHot = -1;
+            handCold = -1;
+            handTest = -1;
+            return;
+        }
+        int before = prev[slot];
+        next[before] = after;
+        prev[after] = before;
+        if (handHot == slot) {
+            handHot = after;
+        }
+        if (handCold == slot) {
+            handCold = after;
+        }
+        if (handTest == slot) {
+            handTest = after;
+        }
+    }
+
+    private void grow() {
+        int oldSlots = status.length;
+        int slots = oldSlots * 2;
+        index.resize(slots);
+        next = Arrays.copyOf(next, slots);
+        prev = Arrays.copyOf(prev, slots);
+        status = Arrays.copyOf(status, slots);
+        referenced = Arrays.copyOf(referenced, slots);
+        freeSlots = new int[slots];
+        resetFreeSlots(oldSlots);
+    }
+
+    /** Puts every slot from the given one up into the free stack, lowest slot on top. */
+    private void resetFreeSlots(int from) {
+        freeCount = 0;
+        for (int slot = status.length - 1; slot >= from; slot--) {
+            freeSlots[freeCount++] = slot;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.smartload.lru;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe cache with a lock-free read path and pluggable eviction strategy.
+ *
+ * {@link Cache} has to take its write lock on every get, because recording the access
+ * mutates the strategy (e.g. reorders the LinkedHashMap in LRUEvictionStrategy).
+ * This class instead stores values in a ConcurrentHashMap and separates the two concerns:
+ * - Reads look up the map without any lock and append the key to a striped, lossy
+ *   {@link ReadBuffer}
+ * - Buffered accesses are replayed into the strategy in batches by whichever thread
+ *   wins a tryLock on the eviction lock, so readers never block on each other
+ * - Writes take the eviction lock, drain pending accesses, and then update the
+ *   strategy and evict exactly like Cache does
+ *
+ * Strategies that implement {@link LockFreeAccess} skip the buffer: their accesses are
+ * recorded directly by the reading thread, and none are dropped.
+ *
+ * Because access events are applied lazily (and may be dropped under heavy contention),
+ * the eviction order is an approximation of the strategy's exact order. Null keys and
+ * values are not supported.
+ *
+ * Example usage:
+ * <pre>
+ *   ConcurrentCache<String, String> cache = new ConcurrentCache<>(10_000, new LRUEvictionStrategy<>());
+ *   cache.put("key", "value");
+ *   String value = cache.get("key"); // No lock taken
+ * </pre>
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class ConcurrentCache<K, V> {
+    private final int capacity;
+    private final ConcurrentHashMap<K, V> map;
+    private final EvictionStrategy<K, V> evictionStrategy;
+    private final ReadBuffer<K> readBuffer = new ReadBuffer<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final boolean lockFreeAccess; // record accesses directly instead of buffering them
+
+    /**
+     * Creates a cache with the specified capacity and eviction strategy.
+     *
+     * @param capacity The maximum number of entries in the cache (must be > 0)
+     * @param evictionStrategy The strategy to use for evicting entries when capacity is exceeded
+     * @throws IllegalArgumentException if capacity <= 0
+     * @throws NullPointerException if evictionStrategy is null
+     */
+    public ConcurrentCache(int capacity, EvictionStrategy<K, V> evictionStrategy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be > 0");
+        }
+        if (evictionStrategy == null) {
+            throw new NullPointerException("Eviction strategy cannot be null");
+        }
+        this.capacity = capacity;
+        this.map = new ConcurrentHashMap<>();
+        this.evictionStrategy = evictionStrategy;
+        this.lockFreeAccess = evictionStrategy instanceof LockFreeAccess;
+    }
+
+    /**
+     * Retrieves the value associated with the key without taking a lock.
+     * The access is buffered and recorded in the eviction strategy on a later drain.
+     *
+     * Backwards-compatibility: like {@link Cache#get(Object)}, returns
+     * Integer.valueOf(-1) for misses in Integer-valued caches.
+     *
+     * @param key The key to look up
+     * @return The value associated with the key, or a sentinel value if not found
+     */
+    public V get(K key) {
+        V value = map.get(key);
+        if (value == null) {
+            // Maintain backward compatibility for Integer-valued caches
+            try {
+                @SuppressWarnings("unchecked")
+                V sentinel = (V) Integer.valueOf(-1);
+                return sentinel;
+            } catch (ClassCastException e) {
+                return null;
+            }
+        }
+        if (lockFreeAccess) {
+            evictionStrategy.recordAccess(key);
+        } else if (readBuffer.offer(key)) {
+            tryDrainReadBuffer();
+        }
+        return value;
+    }
+
+    /**
+     * Inserts or updates an entry in the cache.
+     * If insertion exceeds capacity, the eviction strategy determines which entry to remove.
+     *
+     * @param key The key to insert or update
+     * @param value The value to associate with the key
+     * @throws NullPointerException if key or value is null
+     */
+    public void put(K key, V value) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+
+            // If key already exists, the update counts as an access
+            if (map.put(key, value) != null) {
+                evictionStrategy.recordAccess(key);
+                return;
+            }
+
+            evictionStrategy.recordInsertion(key);
+
+            // If capacity exceeded, evict the candidate selected by strategy
+            if (map.size() > capacity) {
+                K evictionCandidate = evictionStrategy.selectEvictionCandidate();
+                if (evictionCandidate != null) {
+                    map.remove(evictionCandidate);
+                    evictionStrategy.recordRemoval(evictionCandidate);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes an entry from the cache if present.
+     *
+     * @param key The key to remove
+     * @return The value that was removed, or null if the key was not in the cache
+     */
+    public V remove(K key) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            V value = map.remove(key);
+            if (value != null) {
+                evictionStrategy.recordRemoval(key);
+            }
+            return value;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the cache contains the specified key. Does not take a lock
+     * and does not count as an access.
+     *
+     * @param key The key to check
+     * @return true if the cache contains the key, false otherwise
+     */
+    public boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
+    /**
+     * Returns the current number of entries in the cache.
+     *
+     * @return The current size of the cache
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns the maximum capacity of the cache.
+     *
+     * @return The capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Clears all entries from the cache.
+     */
+    public void clear() {
+        evictionLock.lock();
+        try {
+            // Discard pending accesses; they refer to entries that are about to go away
+            readBuffer.drainTo(key -> { });
+            map.clear();
+            evictionStrategy.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Applies all buffered accesses to the eviction strategy now.
+     * Normally this happens automatically on writes and when a read buffer fills up.
+     */
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the type of eviction strategy being used.
+     *
+     * @return The class name of the eviction strategy
+     */
+    public String getEvictionStrategyName() {
+        return evictionStrategy.getClass().getSimpleName();
+    }
+
+    /**
+     * Drains the read buffer if no other thread currently holds the eviction lock.
+     * Readers never wait here: if the lock is busy, the holder will drain soon anyway.
+     */
+    private void tryDrainReadBuffer() {
+        if (evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Replays buffered accesses into the strategy. Must be called with the eviction lock held.
+     * Entries are only added or removed under that lock, so the containsKey check reliably
+     * skips accesses to keys that were removed after being read.
+     */
+    private void drainReadBuffer() {
+        readBuffer.drainTo(key -> {
+            if (map.containsKey(key)) {
+                evictionStrategy.recordAccess(key);
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentCache{" +
+                "capacity=" + capacity +
+                ", size=" + map.size() +
+                ", strategy=" + getEvictionStrategyName() +
+                ", entries=" + map +
+                "}";
+    }
+}
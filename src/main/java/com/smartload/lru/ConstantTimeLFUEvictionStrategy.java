@@ -0,0 +1,220 @@
+package com.smartload.lru;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LFU (Least Frequently Used) eviction strategy with O(1) candidate selection.
+ *
+ * Evicts the same entry as {@link LFUEvictionStrategy}: the one with the lowest access
+ * frequency, and among those the one whose last access (or insertion) is the oldest.
+ * Instead of scanning every entry on eviction, entries are kept in a doubly linked list
+ * of frequency buckets (ascending frequency), and each bucket keeps its entries in the
+ * order they entered it. Since an entry enters a bucket exactly when it is accessed,
+ * that order is the last-access order, so the eviction candidate is always the head
+ * of the first bucket.
+ *
+ * Time Complexity:
+ * - recordAccess: O(1)
+ * - recordInsertion: O(1)
+ * - recordRemoval: O(1)
+ * - selectEvictionCandidate: O(1)
+ */
+public class ConstantTimeLFUEvictionStrategy<K, V> implements EvictionStrategy<K, V>, RestorableStrategy<K> {
+
+    /**
+     * An entry in a frequency bucket's list.
+     */
+    private static final class Node<K> {
+        final K key;
+        FrequencyBucket<K> bucket;
+        Node<K> prev;
+        Node<K> next;
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * All entries with the same access frequency, least recently accessed first.
+     */
+    private static final class FrequencyBucket<K> {
+        final long frequency;
+        Node<K> head;
+        Node<K> tail;
+        FrequencyBucket<K> prev;
+        FrequencyBucket<K> next;
+
+        FrequencyBucket(long frequency) {
+            this.frequency = frequency;
+        }
+
+        void append(Node<K> node) {
+            node.bucket = this;
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        void unlink(Node<K> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.bucket = null;
+        }
+
+        boolean isEmpty() {
+            return head == null;
+        }
+    }
+
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+
+    /** Bucket with the lowest frequency (head of the bucket list). */
+    private FrequencyBucket<K> lowest;
+
+    @Override
+    public void recordAccess(K key) {
+        Node<K> node = nodes.get(key);
+        if (node == null) {
+            return;
+        }
+        FrequencyBucket<K> current = node.bucket;
+        FrequencyBucket<K> target = current.next;
+        if (target == null || target.frequency != current.frequency + 1) {
+            target = new FrequencyBucket<>(current.frequency + 1);
+            linkAfter(current, target);
+        }
+        current.unlink(node);
+        target.append(node);
+        if (current.isEmpty()) {
+            unlinkBucket(current);
+        }
+    }
+
+    @Override
+    public void recordInsertion(K key) {
+        // Re-inserting a tracked key starts it over at frequency 1, like LFUEvictionStrategy
+        recordRemoval(key);
+
+        Node<K> node = new Node<>(key);
+        if (lowest == null || lowest.frequency != 1) {
+            FrequencyBucket<K> first = new FrequencyBucket<>(1);
+            first.next = lowest;
+            if (lowest != null) {
+                lowest.prev = first;
+            }
+            lowest = first;
+        }
+        lowest.append(node);
+        nodes.put(key, node);
+    }
+
+    @Override
+    public void recordRemoval(K key) {
+        Node<K> node = nodes.remove(key);
+        if (node == null) {
+            return;
+        }
+        FrequencyBucket<K> bucket = node.bucket;
+        bucket.unlink(node);
+        if (bucket.isEmpty()) {
+            unlinkBucket(bucket);
+        }
+    }
+
+    @Override
+    public K selectEvictionCandidate() {
+        // The head of the lowest bucket has the minimum frequency and the oldest access among ties
+        if (lowest == null) {
+            return null;
+        }
+        return lowest.head.key;
+    }
+
+    @Override
+    public List<K> evictionOrder() {
+        List<K> order = new ArrayList<>(nodes.size());
+        for (FrequencyBucket<K> bucket = lowest; bucket != null; bucket = bucket.next) {
+            for (Node<K> node = bucket.head; node != null; node = node.next) {
+                order.add(node.key);
+            }
+        }
+        return order;
+    }
+
+    @Override
+    public long frequency(K key) {
+        Node<K> node = nodes.get(key);
+        return node != null ? node.bucket.frequency : 0;
+    }
+
+    @Override
+    public void restoreFrequency(K key, long frequency) {
+        Node<K> node = nodes.get(key);
+        if (node == null || frequency <= node.bucket.frequency) {
+            return;
+        }
+        // Walk up to the bucket with the target frequency, creating it if it's missing
+        FrequencyBucket<K> current = node.bucket;
+        FrequencyBucket<K> before = current;
+        while (before.next != null && before.next.frequency <= frequency) {
+            before = before.next;
+        }
+        FrequencyBucket<K> target = before;
+        if (target.frequency != frequency) {
+            target = new FrequencyBucket<>(frequency);
+            linkAfter(before, target);
+        }
+        current.unlink(node);
+        target.append(node);
+        if (current.isEmpty()) {
+            unlinkBucket(current);
+        }
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        lowest = null;
+    }
+
+    private void linkAfter(FrequencyBucket<K> existing, FrequencyBucket<K> added) {
+        added.prev = existing;
+        added.next = existing.next;
+        if (existing.next != null) {
+            existing.next.prev = added;
+        }
+        existing.next = added;
+    }
+
+    private void unlinkBucket(FrequencyBucket<K> bucket) {
+        if (bucket.prev == null) {
+            lowest = bucket.next;
+        } else {
+            bucket.prev.next = bucket.next;
+        }
+        if (bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        }
+        bucket.prev = null;
+        bucket.next = null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.smartload.lru;
+
+/**
+ * Why a cache removed an entry on its own, as reported by {@link CacheStats#evictionCount(EvictionCause)}.
+ */
+public enum EvictionCause {
+    /** The cache exceeded its capacity (entry count) and the strategy selected the entry. */
+    SIZE,
+    /** The cache exceeded its maximum weight and the strategy selected the entry. */
+    WEIGHT,
+    /** The entry's TTL ran out. */
+    EXPIRED
+}
@@ -1,6 +1,8 @@
 package com.smartload.lru;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -15,7 +17,7 @@ import java.util.Map;
  * - recordRemoval: O(1)
  * - selectEvictionCandidate: O(1)
  */
-public class FIFOEvictionStrategy<K, V> implements EvictionStrategy<K, V> {
+public class FIFOEvictionStrategy<K, V> implements EvictionStrategy<K, V>, RestorableStrategy<K> {
     
     /**
      * LinkedHashMap maintains insertion order (natural order).
@@ -54,6 +56,11 @@ public class FIFOEvictionStrategy<K, V> implements EvictionStrategy<K, V> {
         return insertionOrder.keySet().iterator().next();
     }
     
+    @Override
+    public List<K> evictionOrder() {
+        return new ArrayList<>(insertionOrder.keySet());
+    }
+
     @Override
     public void clear() {
         insertionOrder.clear();
@@ -0,0 +1,112 @@
+package com.smartload.lru;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Count-Min sketch of 4-bit counters used to estimate how often a key was seen.
+ *
+ * Each long in the table packs sixteen 4-bit counters. A key is hashed to one counter in
+ * each of four rows (all rows share the same table), and its estimated frequency is the
+ * minimum of those counters, capped at 15. To let the sketch forget keys that were hot a
+ * long time ago, every counter is halved once the number of recorded increments reaches
+ * the sample size ("aging"), so estimates always reflect the recent past.
+ *
+ * Not thread-safe; callers are expected to hold the owning cache's lock.
+ *
+ * @param <K> Key type
+ */
+final class FrequencySketch<K> {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * Creates a sketch sized for the given number of entries.
+     *
+     * @param maximumSize The expected number of distinct hot keys (usually the cache capacity)
+     */
+    FrequencySketch(int maximumSize) {
+        int size = Math.max(8, maximumSize);
+        int tableSize = 1 << (32 - Integer.numberOfLeadingZeros(size - 1));
+        this.table = new long[tableSize];
+        this.tableMask = tableSize - 1;
+        this.sampleSize = (int) Math.min(10L * size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of occurrences of the key, at most 15.
+     */
+    int frequency(K key) {
+        int hash = spread(key);
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < SEEDS.length; row++) {
+            int index = indexOf(hash, row);
+            int shift = counterShift(hash, row);
+            frequency = Math.min(frequency, (int) ((table[index] >>> shift) & 0xfL));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records one occurrence of the key, aging all counters once the sample size is reached.
+     */
+    void increment(K key) {
+        int hash = spread(key);
+        boolean added = false;
+        for (int row = 0; row < SEEDS.length; row++) {
+            added |= incrementAt(indexOf(hash, row), counterShift(hash, row));
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Forgets all recorded occurrences.
+     */
+    void clear() {
+        Arrays.fill(table, 0L);
+        additions = 0;
+    }
+
+    private boolean incrementAt(int index, int shift) {
+        long mask = 0xfL << shift;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << shift;
+            return true;
+        }
+        return false;
+    }
+
+    /** Halves every counter, which keeps the relative order of hot keys but decays old history. */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return (int) h & tableMask;
+    }
+
+    private int counterShift(int hash, int row) {
+        // Each row uses a different 4-bit slot inside the selected long
+        int slot = ((hash >>> (row << 3)) & 3) + (row << 2);
+        return slot << 2;
+    }
+
+    private int spread(K key) {
+        int h = Objects.hashCode(key) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
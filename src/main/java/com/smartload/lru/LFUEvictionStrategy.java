@@ -1,6 +1,9 @@
 package com.smartload.lru;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -15,7 +18,7 @@ import java.util.Map;
  * - recordRemoval: O(1)
  * - selectEvictionCandidate: O(n) where n is the number of entries
  */
-public class LFUEvictionStrategy<K, V> implements EvictionStrategy<K, V> {
+public class LFUEvictionStrategy<K, V> implements EvictionStrategy<K, V>, RestorableStrategy<K> {
     
     private static class AccessInfo {
         long frequency;
@@ -74,6 +77,33 @@ public class LFUEvictionStrategy<K, V> implements EvictionStrategy<K, V> {
         return candidateKey;
     }
     
+    @Override
+    public List<K> evictionOrder() {
+        // Same ordering as selectEvictionCandidate(): lowest frequency, then oldest access
+        List<Map.Entry<K, AccessInfo>> entries = new ArrayList<>(accessInfo.entrySet());
+        entries.sort(Comparator.<Map.Entry<K, AccessInfo>>comparingLong(e -> e.getValue().frequency)
+                .thenComparingLong(e -> e.getValue().lastAccessTime));
+        List<K> order = new ArrayList<>(entries.size());
+        for (Map.Entry<K, AccessInfo> entry : entries) {
+            order.add(entry.getKey());
+        }
+        return order;
+    }
+
+    @Override
+    public long frequency(K key) {
+        AccessInfo info = accessInfo.get(key);
+        return info != null ? info.frequency : 0;
+    }
+
+    @Override
+    public void restoreFrequency(K key, long frequency) {
+        AccessInfo info = accessInfo.get(key);
+        if (info != null) {
+            info.frequency = Math.max(1, frequency);
+        }
+    }
+
     @Override
     public void clear() {
         accessInfo.clear();
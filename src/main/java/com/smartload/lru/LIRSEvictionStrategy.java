@@ -0,0 +1,343 @@
+package com.smartload.lru;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * LIRS (Low Inter-reference Recency Set) eviction strategy implementation.
+ *
+ * Ranks entries by reuse distance (the number of other keys seen between two accesses)
+ * instead of by recency alone:
+ * - LIR entries have a short reuse distance and take about 99% of the cache; they are never
+ *   evicted directly
+ * - HIR entries take the rest. The resident ones wait in a FIFO queue Q, whose oldest entry
+ *   is the eviction victim
+ * - A recency stack S holds the LIR entries and recently seen HIR entries, newest on top.
+ *   It is pruned so that its bottom is always an LIR entry
+ * - A HIR entry hit while in S has a shorter reuse distance than the oldest LIR entry, so the
+ *   two swap: it becomes LIR and the bottom LIR entry is demoted to the end of Q
+ * - Evicted HIR keys that are still in S stay there as non-resident entries (keys only);
+ *   inserting one again makes it LIR
+ *
+ * A loop over a working set slightly larger than the cache, which makes LRU miss on every
+ * access, keeps the LIR entries resident and only cycles through the small HIR share.
+ * Non-resident entries are bounded by the capacity, oldest dropped first.
+ *
+ * Because the LIR/HIR split derives from the cache capacity, the strategy must be created
+ * with the same capacity as the cache it is plugged into:
+ * <pre>
+ *   Cache<String, String> cache = new Cache<>(1000, new LIRSEvictionStrategy<>(1000));
+ * </pre>
+ *
+ * Time Complexity:
+ * - recordAccess: O(1) amortized (stack pruning)
+ * - recordInsertion: O(1) amortized
+ * - recordRemoval: O(1) amortized
+ * - selectEvictionCandidate: O(1)
+ */
+public class LIRSEvictionStrategy<K, V> implements EvictionStrategy<K, V> {
+
+    private enum Status { LIR, HIR, NON_RESIDENT }
+
+    private static final class Node<K> {
+        final K key;
+        Status status;
+        boolean inStack;
+        /** Links in S, towards the top and the bottom. */
+        Node<K> up;
+        Node<K> down;
+        /** Links in Q, or in the non-resident list. */
+        Node<K> next;
+        Node<K> prev;
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+
+    /** A FIFO list linked through the next/prev fields of the nodes, oldest first. */
+    private static final class Queue<K> {
+        Node<K> first;
+        Node<K> last;
+        int size;
+
+        void addLast(Node<K> node) {
+            node.next = null;
+            node.prev = last;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            size++;
+        }
+
+        void unlink(Node<K> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.next = null;
+            node.prev = null;
+            size--;
+        }
+
+        void clear() {
+            first = null;
+            last = null;
+            size = 0;
+        }
+    }
+
+    private final int lirMaximum;
+    private final int nonResidentMaximum;
+
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    private Node<K> stackTop;
+    private Node<K> stackBottom;
+    /** Resident HIR entries, oldest first. */
+    private final Queue<K> queue = new Queue<>();
+    /** Non-resident HIR entries, oldest first. */
+    private final Queue<K> nonResident = new Queue<>();
+    private int lirCount;
+
+    /** The entry just inserted, which must not be its own eviction victim. */
+    private Node<K> lastInserted;
+    /** The key returned by the last selectEvictionCandidate(); its removal may keep it non-resident. */
+    private K pendingVictim;
+
+    /**
+     * Creates a LIRS strategy for a cache of the given capacity.
+     *
+     * @param maximumSize The capacity of the cache this strategy is used with (must be > 0)
+     * @throws IllegalArgumentException if maximumSize <= 0
+     */
+    public LIRSEvictionStrategy(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be > 0");
+        }
+        // 1% of the capacity (at least one entry) for resident HIR entries
+        this.lirMaximum = maximumSize - Math.max(1, maximumSize / 100);
+        this.nonResidentMaximum = maximumSize;
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        Node<K> node = nodes.get(key);
+        if (node == null || node.status == Status.NON_RESIDENT) {
+            return;
+        }
+        if (node.status == Status.LIR) {
+            boolean wasBottom = node == stackBottom;
+            moveToTop(node);
+            if (wasBottom) {
+                prune();
+            }
+        } else if (node.inStack) {
+            // Reused sooner than the oldest LIR entry: swap their roles
+            queue.unlink(node);
+            moveToTop(node);
+            node.status = Status.LIR;
+            lirCount++;
+            demoteLir();
+        } else {
+            moveToTop(node);
+            queue.unlink(node);
+            queue.addLast(node);
+        }
+    }
+
+    @Override
+    public void recordInsertion(K key) {
+        Node<K> node = nodes.get(key);
+        if (node != null && node.status != Status.NON_RESIDENT) {
+            recordAccess(key);
+            return;
+        }
+        if (node != null) {
+            // Requested again while remembered in S: its reuse distance makes it LIR
+            nonResident.unlink(node);
+            moveToTop(node);
+            node.status = Status.LIR;
+            lirCount++;
+            demoteLir();
+        } else {
+            node = new Node<>(key);
+            nodes.put(key, node);
+            moveToTop(node);
+            if (lirCount < lirMaximum) {
+                node.status = Status.LIR;
+                lirCount++;
+            } else {
+                node.status = Status.HIR;
+                queue.addLast(node);
+            }
+        }
+        lastInserted = node;
+    }
+
+    @Override
+    public void recordRemoval(K key) {
+        Node<K> node = nodes.get(key);
+        if (node == null) {
+            return;
+        }
+        boolean evicted = Objects.equals(key, pendingVictim);
+        if (evicted) {
+            pendingVictim = null;
+        }
+        if (lastInserted == node) {
+            lastInserted = null;
+        }
+        if (evicted && node.status == Status.HIR && node.inStack) {
+            // Evicted: keep the key in S to recognize a short reuse distance
+            queue.unlink(node);
+            node.status = Status.NON_RESIDENT;
+            nonResident.addLast(node);
+            if (nonResident.size > nonResidentMaximum) {
+                delete(nonResident.first);
+            }
+            return;
+        }
+        delete(node);
+    }
+
+    @Override
+    public K selectEvictionCandidate() {
+        Node<K> victim = queue.first;
+        if (victim == lastInserted && victim != null) {
+            victim = victim.next;
+        }
+        if (victim == null) {
+            // No other resident HIR entry (e.g. after explicit removals): fall back to the oldest LIR
+            prune();
+            victim = stackBottom;
+            if (victim == lastInserted && victim != null) {
+                victim = victim.up;
+                while (victim != null && victim.status != Status.LIR) {
+                    victim = victim.up;
+                }
+            }
+            if (victim == null) {
+                victim = lastInserted;
+            }
+        }
+        if (victim == null) {
+            return null;
+        }
+        pendingVictim = victim.key;
+        return victim.key;
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        stackTop = null;
+        stackBottom = null;
+        queue.clear();
+        nonResident.clear();
+        lirCount = 0;
+        lastInserted = null;
+        pendingVictim = null;
+    }
+
+    /** Returns the number of LIR entries. */
+    int lirCount() {
+        return lirCount;
+    }
+
+    /** Returns the number of non-resident HIR entries. */
+    int nonResidentCount() {
+        return nonResident.size;
+    }
+
+    /** Demotes the bottom LIR entries of S to the end of Q while there are too many LIR entries. */
+    private void demoteLir() {
+        while (lirCount > lirMaximum) {
+            // S may have HIR entries at the bottom if it had no LIR entry before
+            prune();
+            Node<K> bottom = stackBottom;
+            removeFromStack(bottom);
+            bottom.status = Status.HIR;
+            lirCount--;
+            queue.addLast(bottom);
+        }
+        prune();
+    }
+
+    /** Removes HIR entries from the bottom of S until an LIR entry is at the bottom. */
+    private void prune() {
+        while (stackBottom != null && stackBottom.status != Status.LIR) {
+            Node<K> bottom = stackBottom;
+            removeFromStack(bottom);
+            if (bottom.status == Status.NON_RESIDENT) {
+                nonResident.unlink(bottom);
+                nodes.remove(bottom.key);
+            }
+        }
+    }
+
+    private void delete(Node<K> node) {
+        nodes.remove(node.key);
+        switch (node.status) {
+            case LIR:
+                lirCount--;
+                break;
+            case HIR:
+                queue.unlink(node);
+                break;
+            default:
+                nonResident.unlink(node);
+                break;
+        }
+        if (node.inStack) {
+            boolean wasBottom = node == stackBottom;
+            removeFromStack(node);
+            if (wasBottom) {
+                prune();
+            }
+        }
+    }
+
+    private void moveToTop(Node<K> node) {
+        if (node == stackTop) {
+            return;
+        }
+        if (node.inStack) {
+            removeFromStack(node);
+        }
+        node.down = stackTop;
+        node.up = null;
+        if (stackTop == null) {
+            stackBottom = node;
+        } else {
+            stackTop.up = node;
+        }
+        stackTop = node;
+        node.inStack = true;
+    }
+
+    private void removeFromStack(Node<K> node) {
+        if (node.up == null) {
+            stackTop = node.down;
+        } else {
+            node.up.down = node.down;
+        }
+        if (node.down == null) {
+            stackBottom = node.up;
+        } else {
+            node.down.up = node.up;
+        }
+        node.up = null;
+        node.down = null;
+        node.inStack = false;
+    }
+}
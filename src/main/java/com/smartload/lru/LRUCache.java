@@ -4,7 +4,7 @@ package com.smartload.lru;
  * Thread-safe LRU cache implementation.
  * 
  * This class is a convenience wrapper around Cache<K, V> that uses
- * LRUEvictionStrategy by default, providing backward compatibility
+ * LRU eviction (NodeLRUEvictionStrategy) by default, providing backward compatibility
  * with the original LRUCache API.
  * 
  * For more flexibility with different eviction strategies, use Cache directly:
@@ -19,13 +19,13 @@ public class LRUCache<K, V> {
 
     /**
      * Creates an LRU cache with the specified capacity.
-     * Uses LRUEvictionStrategy for evicting least recently used entries.
+     * Uses NodeLRUEvictionStrategy for evicting least recently used entries.
      * 
      * @param capacity The maximum number of entries in the cache (must be > 0)
      * @throws IllegalArgumentException if capacity <= 0
      */
     public LRUCache(int capacity) {
-        this.cache = new Cache<>(capacity, new LRUEvictionStrategy<>());
+        this.cache = new Cache<>(capacity, new NodeLRUEvictionStrategy<>());
     }
 
     /**
@@ -1,6 +1,8 @@
 package com.smartload.lru;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -15,34 +17,36 @@ import java.util.Map;
  * - recordRemoval: O(1)
  * - selectEvictionCandidate: O(1)
  */
-public class LRUEvictionStrategy<K, V> implements EvictionStrategy<K, V> {
+public class LRUEvictionStrategy<K, V> implements EvictionStrategy<K, V>, RestorableStrategy<K> {
     
     /**
      * LinkedHashMap maintains insertion order (or access order if accessOrder=true).
      * We use accessOrder=true to maintain LRU order.
      * The eldest entry is automatically placed at the beginning.
+     * Only the key order matters, so every key maps to the shared Boolean.TRUE
+     * (no per-access allocation, unlike a boxed timestamp).
      */
-    private final Map<K, Long> accessOrder = new LinkedHashMap<K, Long>(16, 0.75f, true) {
+    private final Map<K, Boolean> accessOrder = new LinkedHashMap<K, Boolean>(16, 0.75f, true) {
         /**
          * Override removeEldestEntry to enable automatic eviction (optional for this strategy).
          * For now, we just track order manually.
          */
         @Override
-        protected boolean removeEldestEntry(Map.Entry<K, Long> eldest) {
+        protected boolean removeEldestEntry(Map.Entry<K, Boolean> eldest) {
             return false; // We manage eviction ourselves via selectEvictionCandidate()
         }
     };
     
     @Override
     public void recordAccess(K key) {
-        // Update access time - LinkedHashMap will reorder this to the end
-        accessOrder.put(key, System.nanoTime());
+        // LinkedHashMap will reorder this key to the end
+        accessOrder.put(key, Boolean.TRUE);
     }
     
     @Override
     public void recordInsertion(K key) {
-        // Record insertion time
-        accessOrder.put(key, System.nanoTime());
+        // Record insertion - the key becomes the most recently used
+        accessOrder.put(key, Boolean.TRUE);
     }
     
     @Override
@@ -59,6 +63,11 @@ public class LRUEvictionStrategy<K, V> implements EvictionStrategy<K, V> {
         return accessOrder.keySet().iterator().next();
     }
     
+    @Override
+    public List<K> evictionOrder() {
+        return new ArrayList<>(accessOrder.keySet());
+    }
+
     @Override
     public void clear() {
         accessOrder.clear();
@@ -0,0 +1,95 @@
+package com.smartload.lru;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, allocation-free histogram of latencies in nanoseconds.
+ *
+ * Values are counted in log-linear buckets: every power of two is split into 8 sub-buckets,
+ * so a recorded value is known to within 12.5% over the whole range from 1 ns to hours,
+ * with a fixed table of 488 counters. Recording is a single atomic increment and never
+ * allocates, so it can stay on in hot paths.
+ *
+ * {@link #snapshot()} returns the counts since the histogram was created (or since the last
+ * interval snapshot); {@link #intervalSnapshot()} returns them and starts a new interval.
+ * Each bucket is taken and reset atomically, so no recording is lost or counted twice
+ * between intervals.
+ */
+public final class LatencyHistogram {
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS - SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos The latency in nanoseconds; negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(bucketIndex(Math.max(0, nanos)));
+    }
+
+    /**
+     * Returns the latencies recorded in the current interval, without resetting them.
+     *
+     * @return An immutable snapshot
+     */
+    public LatencySnapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new LatencySnapshot(copy);
+    }
+
+    /**
+     * Returns the latencies recorded in the current interval and starts a new one.
+     *
+     * @return An immutable snapshot of the interval that just ended
+     */
+    public LatencySnapshot intervalSnapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.getAndSet(i, 0);
+        }
+        return new LatencySnapshot(copy);
+    }
+
+    /**
+     * Values below 8 get a bucket each; above that, the bucket is chosen by the position of
+     * the highest set bit and the three bits that follow it.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the smallest value that falls into the bucket.
+     */
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        return (1L << exponent) | ((long) subBucket << (exponent - SUB_BUCKET_BITS));
+    }
+
+    /**
+     * Returns the largest value that falls into the bucket.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return bucketLowerBound(index) + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,95 @@
+package com.smartload.lru;
+
+/**
+ * Immutable snapshot of a {@link LatencyHistogram}.
+ *
+ * Values are reported with the resolution of the histogram buckets (within 12.5%):
+ * percentiles and the maximum are the upper bound of the bucket they fall into, and the
+ * mean is computed from bucket midpoints. All values are in nanoseconds.
+ */
+public final class LatencySnapshot {
+    private final long[] counts;
+    private final long count;
+
+    LatencySnapshot(long[] counts) {
+        this.counts = counts;
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        this.count = total;
+    }
+
+    /** Returns the number of recorded values. */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Returns the value below which the given percentage of recorded values fall.
+     *
+     * @param percentile The percentile, between 0 and 100 (e.g. 99.9)
+     * @return The latency in nanoseconds, or 0 if nothing was recorded
+     * @throws IllegalArgumentException if percentile is not in [0, 100]
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return LatencyHistogram.bucketUpperBound(i);
+            }
+        }
+        return max();
+    }
+
+    /** Returns the median latency in nanoseconds. */
+    public long median() {
+        return percentile(50);
+    }
+
+    /** Returns the largest recorded latency in nanoseconds, or 0 if nothing was recorded. */
+    public long max() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] != 0) {
+                return LatencyHistogram.bucketUpperBound(i);
+            }
+        }
+        return 0;
+    }
+
+    /** Returns the mean latency in nanoseconds, or 0.0 if nothing was recorded. */
+    public double mean() {
+        if (count == 0) {
+            return 0.0;
+        }
+        double sum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                double midpoint = (LatencyHistogram.bucketLowerBound(i) / 2.0)
+                        + (LatencyHistogram.bucketUpperBound(i) / 2.0);
+                sum += midpoint * counts[i];
+            }
+        }
+        return sum / count;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot{" +
+                "count=" + count +
+                ", mean=" + String.format("%.1f", mean()) +
+                ", p50=" + percentile(50) +
+                ", p99=" + percentile(99) +
+                ", p999=" + percentile(99.9) +
+                ", max=" + max() +
+                "}";
+    }
+}
@@ -0,0 +1,16 @@
+package com.smartload.lru;
+
+/**
+ * Marker for eviction strategies whose {@link EvictionStrategy#recordAccess(Object)} is
+ * thread-safe and may run concurrently with itself and with the other strategy methods.
+ *
+ * Such strategies record a hit without reordering anything, typically by setting a visited
+ * bit or bumping a small counter with a single volatile write. The caches use this to keep
+ * hits off the exclusive lock:
+ * - {@link Cache} serves gets under the shared read lock instead of the write lock
+ * - {@link ConcurrentCache} records accesses directly instead of buffering them
+ *
+ * The other methods are still called under the cache's exclusive lock.
+ */
+public interface LockFreeAccess {
+}
@@ -0,0 +1,451 @@
+package com.smartload.lru;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Thread-safe cache specialized for primitive long keys.
+ *
+ * {@code Cache<Long, V>} boxes every key, allocates a HashMap node and a CacheNode per entry,
+ * and LRUEvictionStrategy keeps yet another map entry per key. This class stores the same
+ * data in a few flat arrays instead:
+ * - Entries live in parallel arrays (keys, values, prev/next indexes), allocated once for
+ *   the whole capacity; freed slots are reused through a free list
+ * - Keys are found through an open-addressing hash table of int entry indexes with linear
+ *   probing and backward-shift deletion, so there are no tombstones
+ * - The eviction order is an intrusive doubly linked list of int indexes
+ *
+ * LRUEvictionStrategy and FIFOEvictionStrategy are recognized and run natively on the index
+ * list: get and put then neither box the key nor allocate. Any other
+ * {@code EvictionStrategy<Long, V>} is supported too; it receives boxed keys as usual, while
+ * the storage itself stays primitive.
+ *
+ * Example usage:
+ * <pre>
+ *   LongKeyCache<String> cache = new LongKeyCache<>(100_000);   // native LRU
+ *   cache.put(42L, "value");
+ *   String value = cache.get(42L);
+ * </pre>
+ *
+ * @param <V> Value type
+ */
+public class LongKeyCache<V> {
+    private static final int NONE = -1;
+    // The hash table is sized to at least twice the entry count and must fit an int array
+    private static final int MAXIMUM_CAPACITY = 1 << 28;
+
+    private final int capacity;
+    private final EvictionStrategy<Long, V> evictionStrategy;
+    // Native policies keep their order in the index list; otherwise the strategy decides
+    private final boolean nativeOrder;
+    private final boolean moveOnAccess;
+
+    // Entry storage; one spare slot holds a new entry until the overflow is evicted
+    private final long[] keys;
+    private final Object[] values;
+    private final int[] prev;
+    private final int[] next;
+    private int head = NONE;
+    private int tail = NONE;
+    private int freeHead;
+
+    // Open-addressing table of entry index + 1 (0 marks an empty slot)
+    private final int[] table;
+    private final int tableMask;
+
+    private int size;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates a long-key cache with native LRU eviction.
+     *
+     * @param capacity The maximum number of entries in the cache (must be > 0)
+     * @throws IllegalArgumentException if capacity <= 0 or capacity > 2^28
+     */
+    public LongKeyCache(int capacity) {
+        this(capacity, new LRUEvictionStrategy<>());
+    }
+
+    /**
+     * Creates a long-key cache with the specified capacity and eviction strategy.
+     * LRUEvictionStrategy and FIFOEvictionStrategy instances are replaced by an
+     * allocation-free implementation of the same policy.
+     *
+     * @param capacity The maximum number of entries in the cache (must be > 0)
+     * @param evictionStrategy The strategy to use for evicting entries when capacity is exceeded
+     * @throws IllegalArgumentException if capacity <= 0 or capacity > 2^28
+     * @throws NullPointerException if evictionStrategy is null
+     */
+    public LongKeyCache(int capacity, EvictionStrategy<Long, V> evictionStrategy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be > 0");
+        }
+        if (capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be <= " + MAXIMUM_CAPACITY);
+        }
+        if (evictionStrategy == null) {
+            throw new NullPointerException("Eviction strategy cannot be null");
+        }
+        this.capacity = capacity;
+        this.evictionStrategy = evictionStrategy;
+        // Exact class checks: a subclass may override the policy
+        boolean lru = evictionStrategy.getClass() == LRUEvictionStrategy.class;
+        boolean fifo = evictionStrategy.getClass() == FIFOEvictionStrategy.class;
+        this.nativeOrder = lru || fifo;
+        this.moveOnAccess = lru;
+
+        int slots = capacity + 1;
+        this.keys = new long[slots];
+        this.values = new Object[slots];
+        this.prev = new int[slots];
+        this.next = new int[slots];
+
+        // Keep the load factor at or below 0.5 so probe sequences stay short
+        int tableSize = Integer.highestOneBit(Math.max(2, slots) * 2 - 1) << 1;
+        this.table = new int[tableSize];
+        this.tableMask = tableSize - 1;
+        resetStorage();
+    }
+
+    /**
+     * Retrieves the value associated with the key.
+     *
+     * For consistency with {@link Cache#get(Object)}, returns Integer.valueOf(-1)
+     * for misses in Integer-valued caches.
+     *
+     * @param key The key to look up
+     * @return The value associated with the key, or a sentinel value if not found
+     */
+    public V get(long key) {
+        lock.writeLock().lock();
+        try {
+            int index = indexOf(key);
+            if (index == NONE) {
+                try {
+                    @SuppressWarnings("unchecked")
+                    V sentinel = (V) Integer.valueOf(-1);
+                    return sentinel;
+                } catch (ClassCastException e) {
+                    return null;
+                }
+            }
+            recordAccess(index);
+            return valueAt(index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the value associated with the key, without the -1 sentinel on a miss.
+     *
+     * @param key The key to look up
+     * @return The value if found, null otherwise
+     */
+    public V getIfPresent(long key) {
+        lock.writeLock().lock();
+        try {
+            int index = indexOf(key);
+            if (index == NONE) {
+                return null;
+            }
+            recordAccess(index);
+            return valueAt(index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts or updates an entry in the cache.
+     * If insertion exceeds capacity, the eviction strategy determines which entry to remove.
+     *
+     * @param key The key to insert or update
+     * @param value The value to associate with the key
+     */
+    public void put(long key, V value) {
+        lock.writeLock().lock();
+        try {
+            int index = indexOf(key);
+            if (index != NONE) {
+                values[index] = value;
+                recordAccess(index);
+                return;
+            }
+
+            index = freeHead;
+            freeHead = next[index];
+            keys[index] = key;
+            values[index] = value;
+            linkLast(index);
+            insertIntoTable(index);
+            size++;
+            if (!nativeOrder) {
+                evictionStrategy.recordInsertion(key);
+            }
+
+            if (size > capacity) {
+                evict();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an entry from the cache if present.
+     *
+     * @param key The key to remove
+     * @return The value that was removed, or null if the key was not in the cache
+     */
+    public V remove(long key) {
+        lock.writeLock().lock();
+        try {
+            int index = indexOf(key);
+            if (index == NONE) {
+                return null;
+            }
+            V value = valueAt(index);
+            if (!nativeOrder) {
+                evictionStrategy.recordRemoval(key);
+            }
+            removeAt(index);
+            return value;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks if the cache contains the specified key.
+     *
+     * @param key The key to check
+     * @return true if the cache contains the key, false otherwise
+     */
+    public boolean containsKey(long key) {
+        lock.readLock().lock();
+        try {
+            return indexOf(key) != NONE;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the current number of entries in the cache.
+     *
+     * @return The current size
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the maximum capacity of the cache.
+     *
+     * @return The capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Clears all entries from the cache and resets the eviction strategy.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            resetStorage();
+            if (!nativeOrder) {
+                evictionStrategy.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the type of eviction strategy being used.
+     *
+     * @return The class name of the eviction strategy
+     */
+    public String getEvictionStrategyName() {
+        return evictionStrategy.getClass().getSimpleName();
+    }
+
+    private void recordAccess(int index) {
+        if (moveOnAccess) {
+            if (index != tail) {
+                unlink(index);
+                linkLast(index);
+            }
+        } else if (!nativeOrder) {
+            evictionStrategy.recordAccess(keys[index]);
+        }
+    }
+
+    private void evict() {
+        int victim;
+        if (nativeOrder) {
+            victim = head;
+        } else {
+            Long candidate = evictionStrategy.selectEvictionCandidate();
+            victim = (candidate == null) ? NONE : indexOf(candidate);
+            if (victim == NONE) {
+                // The arrays have no room beyond capacity + 1, so fall back to the oldest entry
+                victim = head;
+                candidate = keys[victim];
+            }
+            evictionStrategy.recordRemoval(candidate);
+        }
+        removeAt(victim);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) values[index];
+    }
+
+    // ---------- hash table ----------
+
+    private int homeSlot(long key) {
+        // MurmurHash3 finalizer: sequential ids must not land in sequential slots
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & tableMask;
+    }
+
+    /** Returns the entry index of the key, or NONE. */
+    private int indexOf(long key) {
+        int slot = homeSlot(key);
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            if (keys[entry - 1] == key) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+        return NONE;
+    }
+
+    private void insertIntoTable(int index) {
+        int slot = homeSlot(keys[index]);
+        while (table[slot] != 0) {
+            slot = (slot + 1) & tableMask;
+        }
+        table[slot] = index + 1;
+    }
+
+    /**
+     * Deletes the entry from the table, shifting later entries of the same probe run back
+     * so that every remaining key is still reachable from its home slot.
+     */
+    private void deleteFromTable(int index) {
+        int slot = homeSlot(keys[index]);
+        while (table[slot] != index + 1) {
+            slot = (slot + 1) & tableMask;
+        }
+        int gap = slot;
+        int probe = slot;
+        while (true) {
+            probe = (probe + 1) & tableMask;
+            int entry = table[probe];
+            if (entry == 0) {
+                break;
+            }
+            int home = homeSlot(keys[entry - 1]);
+            // Move the entry into the gap unless its home lies cyclically in (gap, probe]
+            boolean reachable = (gap <= probe)
+                    ? (home > gap && home <= probe)
+                    : (home > gap || home <= probe);
+            if (!reachable) {
+                table[gap] = entry;
+                gap = probe;
+            }
+        }
+        table[gap] = 0;
+    }
+
+    // ---------- entry storage and order list ----------
+
+    private void removeAt(int index) {
+        deleteFromTable(index);
+        unlink(index);
+        values[index] = null;
+        next[index] = freeHead;
+        freeHead = index;
+        size--;
+    }
+
+    private void linkLast(int index) {
+        prev[index] = tail;
+        next[index] = NONE;
+        if (tail == NONE) {
+            head = index;
+        } else {
+            next[tail] = index;
+        }
+        tail = index;
+    }
+
+    private void unlink(int index) {
+        int before = prev[index];
+        int after = next[index];
+        if (before == NONE) {
+            head = after;
+        } else {
+            next[before] = after;
+        }
+        if (after == NONE) {
+            tail = before;
+        } else {
+            prev[after] = before;
+        }
+    }
+
+    private void resetStorage() {
+        Arrays.fill(table, 0);
+        Arrays.fill(values, null);
+        // Chain every slot into the free list
+        for (int i = 0; i < next.length; i++) {
+            next[i] = (i + 1 < next.length) ? i + 1 : NONE;
+        }
+        freeHead = 0;
+        head = NONE;
+        tail = NONE;
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        lock.readLock().lock();
+        try {
+            StringBuilder sb = new StringBuilder();
+            sb.append("LongKeyCache{")
+                    .append("capacity=").append(capacity)
+                    .append(", size=").append(size)
+                    .append(", strategy=").append(getEvictionStrategyName())
+                    .append(", entries={");
+            boolean first = true;
+            for (int index = head; index != NONE; index = next[index]) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(keys[index]).append('=').append(values[index]);
+                first = false;
+            }
+            return sb.append("}}").toString();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.smartload.lru;
+
+/**
+ * Node-based strategy interface for cache eviction policies.
+ *
+ * Works like {@link EvictionStrategy}, but receives the cache's own {@link CacheNode}
+ * instead of the key. Strategies keep their ordering by linking the nodes directly,
+ * which avoids hashing every key a second time and allocating per access.
+ *
+ * Plug a node strategy into a cache with:
+ * <pre>
+ *   Cache<String, String> cache = new Cache<>(100, new NodeLRUEvictionStrategy<>());
+ * </pre>
+ */
+public interface NodeEvictionStrategy<K, V> {
+
+    /**
+     * Called when an entry is accessed (get or update).
+     *
+     * @param node The node being accessed
+     */
+    void recordAccess(CacheNode<K, V> node);
+
+    /**
+     * Called when a new entry is added to the cache.
+     *
+     * @param node The node being added
+     */
+    void recordInsertion(CacheNode<K, V> node);
+
+    /**
+     * Called when an entry is removed from the cache.
+     * The strategy must unlink the node from any ordering it maintains.
+     *
+     * @param node The node being removed
+     */
+    void recordRemoval(CacheNode<K, V> node);
+
+    /**
+     * Determines which node should be evicted when the cache is full.
+     *
+     * @return The node to be evicted, or null if no entry should be evicted
+     */
+    CacheNode<K, V> selectEvictionCandidate();
+
+    /**
+     * Clears all strategy state (used when cache is cleared).
+     */
+    void clear();
+}
@@ -0,0 +1,52 @@
+package com.smartload.lru;
+
+import java.util.List;
+
+/**
+ * FIFO (First In First Out) eviction strategy operating on cache nodes.
+ *
+ * Same eviction order as {@link FIFOEvictionStrategy}, but the insertion order is kept
+ * by linking the cache's own nodes instead of a separate LinkedHashMap.
+ *
+ * Time Complexity:
+ * - recordAccess: O(1)
+ * - recordInsertion: O(1)
+ * - recordRemoval: O(1)
+ * - selectEvictionCandidate: O(1)
+ */
+public class NodeFIFOEvictionStrategy<K, V> implements NodeEvictionStrategy<K, V>,
+        RestorableStrategy<CacheNode<K, V>> {
+
+    /** Oldest inserted node first. */
+    private final NodeList<K, V> insertionOrder = new NodeList<>();
+
+    @Override
+    public void recordAccess(CacheNode<K, V> node) {
+        // FIFO doesn't track access, only insertion order
+    }
+
+    @Override
+    public void recordInsertion(CacheNode<K, V> node) {
+        insertionOrder.addLast(node);
+    }
+
+    @Override
+    public void recordRemoval(CacheNode<K, V> node) {
+        insertionOrder.unlink(node);
+    }
+
+    @Override
+    public CacheNode<K, V> selectEvictionCandidate() {
+        return insertionOrder.first();
+    }
+
+    @Override
+    public List<CacheNode<K, V>> evictionOrder() {
+        return insertionOrder.toList();
+    }
+
+    @Override
+    public void clear() {
+        insertionOrder.clear();
+    }
+}
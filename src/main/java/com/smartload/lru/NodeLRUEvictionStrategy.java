@@ -0,0 +1,53 @@
+package com.smartload.lru;
+
+import java.util.List;
+
+/**
+ * LRU (Least Recently Used) eviction strategy operating on cache nodes.
+ *
+ * Same eviction order as {@link LRUEvictionStrategy}, but the access order is kept
+ * by linking the cache's own nodes, so there is no second hash map, no hash lookup
+ * per access and no allocation per access.
+ *
+ * Time Complexity:
+ * - recordAccess: O(1)
+ * - recordInsertion: O(1)
+ * - recordRemoval: O(1)
+ * - selectEvictionCandidate: O(1)
+ */
+public class NodeLRUEvictionStrategy<K, V> implements NodeEvictionStrategy<K, V>,
+        RestorableStrategy<CacheNode<K, V>> {
+
+    /** Least recently used node first. */
+    private final NodeList<K, V> accessOrder = new NodeList<>();
+
+    @Override
+    public void recordAccess(CacheNode<K, V> node) {
+        accessOrder.moveToLast(node);
+    }
+
+    @Override
+    public void recordInsertion(CacheNode<K, V> node) {
+        accessOrder.addLast(node);
+    }
+
+    @Override
+    public void recordRemoval(CacheNode<K, V> node) {
+        accessOrder.unlink(node);
+    }
+
+    @Override
+    public CacheNode<K, V> selectEvictionCandidate() {
+        return accessOrder.first();
+    }
+
+    @Override
+    public List<CacheNode<K, V>> evictionOrder() {
+        return accessOrder.toList();
+    }
+
+    @Override
+    public void clear() {
+        accessOrder.clear();
+    }
+}
@@ -0,0 +1,73 @@
+package com.smartload.lru;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Doubly linked list threaded through the previous/next references of {@link CacheNode}.
+ * Used by the node-based strategies to keep their ordering without any extra allocation.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+final class NodeList<K, V> {
+    private CacheNode<K, V> head;
+    private CacheNode<K, V> tail;
+
+    /** Returns the first (oldest) node, or null if the list is empty. */
+    CacheNode<K, V> first() {
+        return head;
+    }
+
+    /** Appends the node at the end of the list. */
+    void addLast(CacheNode<K, V> node) {
+        node.setPrevious(tail);
+        node.setNext(null);
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.setNext(node);
+        }
+        tail = node;
+    }
+
+    /** Moves a node that is already in the list to the end. */
+    void moveToLast(CacheNode<K, V> node) {
+        if (node != tail) {
+            unlink(node);
+            addLast(node);
+        }
+    }
+
+    /** Removes the node from the list. */
+    void unlink(CacheNode<K, V> node) {
+        CacheNode<K, V> previous = node.getPrevious();
+        CacheNode<K, V> next = node.getNext();
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        node.setPrevious(null);
+        node.setNext(null);
+    }
+
+    /** Returns the nodes from first to last. */
+    List<CacheNode<K, V>> toList() {
+        List<CacheNode<K, V>> nodes = new ArrayList<>();
+        for (CacheNode<K, V> node = head; node != null; node = node.getNext()) {
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    void clear() {
+        head = null;
+        tail = null;
+    }
+}
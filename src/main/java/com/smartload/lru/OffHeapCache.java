@@ -0,0 +1,318 @@
+package com.smartload.lru;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Thread-safe cache of byte[] values that are stored off-heap, with pluggable eviction strategy.
+ *
+ * Values are copied into direct ByteBuffer slabs managed by a {@link SlabAllocator}
+ * (size classes 64 B, 80 B, 96 B, ... up to 1 GiB), so their bytes are outside the
+ * garbage-collected heap. Only a small index stays on-heap: the key, a chunk handle and the
+ * value length per entry. The cache is bounded by weight: the total size of the chunks
+ * holding live values must not exceed the maximum, and the eviction strategy selects the
+ * entries to remove when a put exceeds it.
+ *
+ * get() copies the value back into a new byte[]; put() copies it in. Slab memory that is no
+ * longer used is released when whole slabs become free, so the memory reported by
+ * {@link #allocatedBytes()} can exceed the weighted size by the unused chunks of partly
+ * filled slabs.
+ *
+ * Example usage:
+ * <pre>
+ *   OffHeapCache<String> cache = new OffHeapCache<>(4L << 30, new LRUEvictionStrategy<>());
+ *   cache.put("response:42", serialized);
+ *   byte[] value = cache.get("response:42");
+ * </pre>
+ *
+ * @param <K> Key type
+ */
+public class OffHeapCache<K> {
+    private static final int DEFAULT_SLAB_SIZE = 1 << 20;
+
+    /** On-heap index entry: where the value lives and how long it is. */
+    private static final class Location {
+        final long handle;
+        final int length;
+        final int chunkSize;
+
+        Location(long handle, int length, int chunkSize) {
+            this.handle = handle;
+            this.length = length;
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    private final long maximumWeight;
+    private final Map<K, Location> index;
+    private final EvictionStrategy<K, byte[]> evictionStrategy;
+    private final SlabAllocator allocator;
+    private long weightedSize;
+    private final StatsCounter stats = new StatsCounter();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates an off-heap cache with 1 MiB slabs.
+     *
+     * @param maximumBytes The maximum total size of the chunks holding values (must be > 0)
+     * @param evictionStrategy The strategy to use for evicting entries when the size is exceeded
+     * @throws IllegalArgumentException if maximumBytes <= 0
+     * @throws NullPointerException if evictionStrategy is null
+     */
+    public OffHeapCache(long maximumBytes, EvictionStrategy<K, byte[]> evictionStrategy) {
+        this(maximumBytes, DEFAULT_SLAB_SIZE, evictionStrategy);
+    }
+
+    /**
+     * Creates an off-heap cache with the given slab size.
+     *
+     * @param maximumBytes The maximum total size of the chunks holding values (must be > 0)
+     * @param slabSize The size of the direct buffers chunks are carved from (must be > 0)
+     * @param evictionStrategy The strategy to use for evicting entries when the size is exceeded
+     * @throws IllegalArgumentException if maximumBytes <= 0 or slabSize <= 0
+     * @throws NullPointerException if evictionStrategy is null
+     */
+    public OffHeapCache(long maximumBytes, int slabSize, EvictionStrategy<K, byte[]> evictionStrategy) {
+        if (maximumBytes <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be > 0");
+        }
+        if (slabSize <= 0) {
+            throw new IllegalArgumentException("Slab size must be > 0");
+        }
+        if (evictionStrategy == null) {
+            throw new NullPointerException("Eviction strategy cannot be null");
+        }
+        this.maximumWeight = maximumBytes;
+        this.index = new HashMap<>();
+        this.evictionStrategy = evictionStrategy;
+        this.allocator = new SlabAllocator(slabSize);
+    }
+
+    /**
+     * Retrieves a copy of the value associated with the key.
+     *
+     * @param key The key to look up
+     * @return A copy of the value, or null if not found
+     */
+    public byte[] get(K key) {
+        byte[] value = null;
+        lock.writeLock().lock();
+        try {
+            Location location = index.get(key);
+            if (location != null) {
+                evictionStrategy.recordAccess(key);
+                value = allocator.read(location.handle, location.length);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (value != null) {
+            stats.recordHit();
+        } else {
+            stats.recordMiss();
+        }
+        return value;
+    }
+
+    /**
+     * Copies the value off-heap and associates it with the key.
+     * If the total size exceeds the maximum, the eviction strategy determines which entries
+     * to remove. A value whose chunk is larger than the whole cache is not stored, and any
+     * previous value for the key is removed.
+     *
+     * @param key The key to insert or update
+     * @param value The value to copy (must not be null)
+     * @throws NullPointerException if value is null
+     * @throws IllegalArgumentException if value is larger than 1 GiB
+     */
+    public void put(K key, byte[] value) {
+        if (value == null) {
+            throw new NullPointerException("Value cannot be null");
+        }
+        int chunkSize = SlabAllocator.chunkSizeFor(value.length);
+        lock.writeLock().lock();
+        try {
+            stats.recordPut();
+            Location previous = index.get(key);
+            if (chunkSize > maximumWeight) {
+                // Oversized values can never fit; drop the stale value instead of keeping it
+                if (previous != null) {
+                    removeLocked(key);
+                }
+                return;
+            }
+
+            long handle = allocator.allocate(value.length);
+            allocator.write(handle, value);
+            index.put(key, new Location(handle, value.length, chunkSize));
+            weightedSize += chunkSize;
+            if (previous != null) {
+                allocator.free(previous.handle);
+                weightedSize -= previous.chunkSize;
+                evictionStrategy.recordAccess(key);
+            } else {
+                evictionStrategy.recordInsertion(key);
+            }
+
+            // If the size is exceeded, evict candidates selected by strategy
+            while (weightedSize > maximumWeight) {
+                K candidate = evictionStrategy.selectEvictionCandidate();
+                if (candidate == null || removeLocked(candidate) == null) {
+                    break;
+                }
+                stats.recordEviction(EvictionCause.WEIGHT);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an entry from the cache if present.
+     *
+     * @param key The key to remove
+     * @return A copy of the value that was removed, or null if the key was not in the cache
+     */
+    public byte[] remove(K key) {
+        lock.writeLock().lock();
+        try {
+            Location location = index.get(key);
+            if (location == null) {
+                return null;
+            }
+            byte[] value = allocator.read(location.handle, location.length);
+            removeLocked(key);
+            return value;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks if the cache contains the specified key.
+     *
+     * @param key The key to check
+     * @return true if the cache contains the key, false otherwise
+     */
+    public boolean containsKey(K key) {
+        lock.readLock().lock();
+        try {
+            return index.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the current number of entries in the cache.
+     *
+     * @return The current size
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the total size of the chunks holding the values currently in the cache.
+     *
+     * @return The current weighted size in bytes
+     */
+    public long weightedSize() {
+        lock.readLock().lock();
+        try {
+            return weightedSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the maximum total size of the chunks holding values.
+     *
+     * @return The maximum weight in bytes
+     */
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Returns the off-heap memory held by the slabs, including unused chunks.
+     *
+     * @return The allocated off-heap memory in bytes
+     */
+    public long allocatedBytes() {
+        lock.readLock().lock();
+        try {
+            return allocator.allocatedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Clears all entries, releases all slabs and resets the eviction strategy.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            allocator.clear();
+            evictionStrategy.clear();
+            weightedSize = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return An immutable snapshot of the statistics
+     */
+    public CacheStats stats() {
+        return stats.snapshot();
+    }
+
+    /**
+     * Returns the type of eviction strategy being used.
+     *
+     * @return The class name of the eviction strategy
+     */
+    public String getEvictionStrategyName() {
+        return evictionStrategy.getClass().getSimpleName();
+    }
+
+    /**
+     * Removes one entry and frees its chunk. Caller holds the write lock.
+     */
+    private Location removeLocked(K key) {
+        Location location = index.remove(key);
+        if (location != null) {
+            evictionStrategy.recordRemoval(key);
+            allocator.free(location.handle);
+            weightedSize -= location.chunkSize;
+        }
+        return location;
+    }
+
+    @Override
+    public String toString() {
+        lock.readLock().lock();
+        try {
+            return "OffHeapCache{" +
+                    "size=" + index.size() +
+                    ", weightedSize=" + weightedSize + "/" + maximumWeight +
+                    ", allocatedBytes=" + allocator.allocatedBytes() +
+                    ", strategy=" + getEvictionStrategyName() +
+                    "}";
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.smartload.lru;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Striped, lossy ring buffer for recording key accesses without taking a lock.
+ *
+ * Readers append the accessed key to the stripe selected by their thread; a single
+ * drainer (holding the owning cache's eviction lock) replays the buffered keys into
+ * the eviction strategy in batches. When a stripe is full, or the slot is contended,
+ * the event is simply dropped: eviction strategies only need an approximate picture
+ * of the access pattern, and losing a few events is far cheaper than blocking readers.
+ *
+ * Concurrency contract:
+ * - {@link #offer(Object)} may be called by any number of threads concurrently
+ * - {@link #drainTo(Consumer)} must only be called by one thread at a time
+ *
+ * @param <K> Key type
+ */
+final class ReadBuffer<K> {
+    /** Number of slots per stripe (power of two). */
+    static final int BUFFER_SIZE = 16;
+    private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+
+    /** Maximum number of stripes, regardless of the number of processors. */
+    private static final int MAX_STRIPES = 64;
+
+    private final Stripe<K>[] stripes;
+    private final int stripeMask;
+
+    @SuppressWarnings("unchecked")
+    ReadBuffer() {
+        // Round twice the processor count up to a power of two so stripes can be selected with a mask
+        int desired = Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors() * 2);
+        int stripeCount = 1 << (32 - Integer.numberOfLeadingZeros(desired - 1));
+        this.stripes = (Stripe<K>[]) new Stripe<?>[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Records an access to the key.
+     *
+     * @param key The key that was read
+     * @return true if the stripe is full (or the event was dropped) and the buffer should be drained
+     */
+    boolean offer(K key) {
+        return stripes[stripeIndex()].offer(key);
+    }
+
+    /**
+     * Replays all buffered keys into the consumer and frees their slots.
+     *
+     * @param consumer Receives each buffered key, oldest first per stripe
+     */
+    void drainTo(Consumer<? super K> consumer) {
+        for (Stripe<K> stripe : stripes) {
+            stripe.drainTo(consumer);
+        }
+    }
+
+    private int stripeIndex() {
+        // Mix the thread id so that consecutive ids land on different stripes
+        long id = Thread.currentThread().getId();
+        int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & stripeMask;
+    }
+
+    /**
+     * A single bounded ring buffer. Producers claim a slot by advancing writeCounter
+     * with CAS; the drainer publishes consumed slots by advancing readCounter.
+     */
+    private static final class Stripe<K> {
+        private final AtomicReferenceArray<K> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        boolean offer(K key) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            if (tail - head >= BUFFER_SIZE) {
+                return true; // Full - drop the event and ask for a drain
+            }
+            if (!writeCounter.compareAndSet(tail, tail + 1)) {
+                return true; // Contended - drop the event rather than spin
+            }
+            buffer.lazySet((int) (tail & BUFFER_MASK), key);
+            return tail + 1 - head >= BUFFER_SIZE;
+        }
+
+        void drainTo(Consumer<? super K> consumer) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            while (head < tail) {
+                int index = (int) (head & BUFFER_MASK);
+                K key = buffer.get(index);
+                if (key == null) {
+                    break; // Slot claimed but not yet published; pick it up on the next drain
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(key);
+                head++;
+            }
+            readCounter = head;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.smartload.lru;
+
+import java.util.List;
+
+/**
+ * Optional interface for eviction strategies whose state can be saved in a cache snapshot
+ * and rebuilt on restore (see {@link Cache#snapshot} and {@link Cache#restore}).
+ *
+ * A snapshot lists the entries in {@link #evictionOrder()}; restoring inserts them in that
+ * order, so strategies ordered by recency or insertion get their order back for free, and
+ * then hands each entry's saved {@link #frequency} to {@link #restoreFrequency}.
+ * Strategies that do not implement this interface are restored in an arbitrary order.
+ *
+ * @param <T> What the strategy tracks: the key for an {@link EvictionStrategy},
+ *            the {@link CacheNode} for a {@link NodeEvictionStrategy}
+ */
+public interface RestorableStrategy<T> {
+
+    /**
+     * Returns the tracked entries from the next eviction victim to the most protected one.
+     *
+     * @return The entries in eviction order
+     */
+    List<T> evictionOrder();
+
+    /**
+     * Returns the access frequency the strategy recorded for the entry.
+     *
+     * @param entry A tracked entry
+     * @return The frequency (1 for strategies that don't count accesses)
+     */
+    default long frequency(T entry) {
+        return 1;
+    }
+
+    /**
+     * Sets the access frequency of an entry that was just re-inserted during a restore.
+     *
+     * @param entry The restored entry
+     * @param frequency The frequency saved in the snapshot
+     */
+    default void restoreFrequency(T entry, long frequency) {
+    }
+}
@@ -0,0 +1,243 @@
+package com.smartload.lru;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * S3-FIFO eviction strategy implementation.
+ *
+ * Uses three FIFO queues and a 2-bit access counter per entry:
+ * - New entries enter a small queue S (10% of the capacity). Most one-hit wonders
+ *   are evicted from S quickly
+ * - When S is over its share, its oldest entry is evicted if it was not hit while in S,
+ *   otherwise it moves to the main queue M
+ * - When M is evicted from, its oldest entry is evicted if its counter is zero; otherwise
+ *   the counter is decremented and the entry is re-inserted at the head of M
+ * - Keys evicted from S are remembered in a ghost queue G (keys only, bounded by the
+ *   capacity); a key inserted again while in G goes straight to M
+ *
+ * A hit only increments the counter (up to 3) with a volatile write and never moves an
+ * entry, so the strategy implements {@link LockFreeAccess} and the caches record hits
+ * without their exclusive lock. Concurrent hits may lose an increment, which only makes
+ * the counter a slightly lower estimate.
+ *
+ * Because the queue sizes derive from the cache capacity, the strategy must be created
+ * with the same capacity as the cache it is plugged into:
+ * <pre>
+ *   Cache<String, String> cache = new Cache<>(1000, new S3FIFOEvictionStrategy<>(1000));
+ * </pre>
+ *
+ * Time Complexity:
+ * - recordAccess: O(1), lock-free
+ * - recordInsertion: O(1)
+ * - recordRemoval: O(1)
+ * - selectEvictionCandidate: O(1) amortized
+ */
+public class S3FIFOEvictionStrategy<K, V> implements EvictionStrategy<K, V>, LockFreeAccess {
+
+    private static final int MAX_FREQUENCY = 3;
+
+    private static final class Node<K> {
+        final K key;
+        volatile int frequency;
+        boolean inMain;
+        Node<K> newer;
+        Node<K> older;
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+
+    /** A FIFO queue of nodes, newest first. */
+    private static final class Queue<K> {
+        Node<K> newest;
+        Node<K> oldest;
+        int size;
+
+        void addNewest(Node<K> node) {
+            node.newer = null;
+            node.older = newest;
+            if (newest == null) {
+                oldest = node;
+            } else {
+                newest.newer = node;
+            }
+            newest = node;
+            size++;
+        }
+
+        void unlink(Node<K> node) {
+            if (node.newer == null) {
+                newest = node.older;
+            } else {
+                node.newer.older = node.older;
+            }
+            if (node.older == null) {
+                oldest = node.newer;
+            } else {
+                node.older.newer = node.newer;
+            }
+            node.newer = null;
+            node.older = null;
+            size--;
+        }
+
+        void clear() {
+            newest = null;
+            oldest = null;
+            size = 0;
+        }
+    }
+
+    private final int smallMaximum;
+    private final int ghostMaximum;
+
+    /** Concurrent, because recordAccess looks nodes up without the cache lock. */
+    private final Map<K, Node<K>> nodes = new ConcurrentHashMap<>();
+    private final Queue<K> small = new Queue<>();
+    private final Queue<K> main = new Queue<>();
+    /** Keys evicted from S, oldest first. */
+    private final LinkedHashSet<K> ghost = new LinkedHashSet<>();
+
+    /** The entry just inserted, which must not be its own eviction victim. */
+    private Node<K> lastInserted;
+    /** The key returned by the last selectEvictionCandidate(); its removal may make it a ghost. */
+    private K pendingVictim;
+
+    /**
+     * Creates an S3-FIFO strategy for a cache of the given capacity.
+     *
+     * @param maximumSize The capacity of the cache this strategy is used with (must be > 0)
+     * @throws IllegalArgumentException if maximumSize <= 0
+     */
+    public S3FIFOEvictionStrategy(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be > 0");
+        }
+        this.smallMaximum = Math.max(1, maximumSize / 10);
+        this.ghostMaximum = maximumSize;
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        Node<K> node = nodes.get(key);
+        if (node != null) {
+            int frequency = node.frequency;
+            if (frequency < MAX_FREQUENCY) {
+                node.frequency = frequency + 1;
+            }
+        }
+    }
+
+    @Override
+    public void recordInsertion(K key) {
+        recordRemoval(key);
+        Node<K> node = new Node<>(key);
+        if (ghost.remove(key)) {
+            // Evicted from S recently and requested again: it belongs in M
+            node.inMain = true;
+            main.addNewest(node);
+        } else {
+            small.addNewest(node);
+        }
+        nodes.put(key, node);
+        lastInserted = node;
+    }
+
+    @Override
+    public void recordRemoval(K key) {
+        Node<K> node = nodes.remove(key);
+        if (node == null) {
+            return;
+        }
+        boolean evicted = Objects.equals(key, pendingVictim);
+        if (evicted) {
+            pendingVictim = null;
+        }
+        if (lastInserted == node) {
+            lastInserted = null;
+        }
+        if (node.inMain) {
+            main.unlink(node);
+        } else {
+            small.unlink(node);
+            if (evicted) {
+                ghost.add(key);
+                if (ghost.size() > ghostMaximum) {
+                    Iterator<K> oldestGhost = ghost.iterator();
+                    oldestGhost.next();
+                    oldestGhost.remove();
+                }
+            }
+        }
+    }
+
+    @Override
+    public K selectEvictionCandidate() {
+        if (nodes.isEmpty()) {
+            return null;
+        }
+        while (true) {
+            // The entry just inserted doesn't count: S3-FIFO makes room before inserting
+            boolean newInMain = lastInserted != null && lastInserted.inMain;
+            int smallSize = small.size - ((lastInserted != null && !newInMain) ? 1 : 0);
+            boolean mainHasCandidate = main.size > (newInMain ? 1 : 0);
+            Node<K> candidate = small.oldest;
+
+            if (candidate != null && candidate != lastInserted
+                    && (smallSize >= smallMaximum || !mainHasCandidate)) {
+                if (candidate.frequency == 0) {
+                    return victim(candidate);
+                }
+                // Hit while in S: move it to M
+                small.unlink(candidate);
+                candidate.frequency = 0;
+                candidate.inMain = true;
+                main.addNewest(candidate);
+            } else if (mainHasCandidate) {
+                candidate = main.oldest;
+                if (candidate != lastInserted) {
+                    if (candidate.frequency == 0) {
+                        return victim(candidate);
+                    }
+                    candidate.frequency--;
+                }
+                // Give it another round in M
+                main.unlink(candidate);
+                main.addNewest(candidate);
+            } else {
+                // Only the new entry is left
+                return victim(lastInserted);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        small.clear();
+        main.clear();
+        ghost.clear();
+        lastInserted = null;
+        pendingVictim = null;
+    }
+
+    /** Returns the number of entries in the main queue M. */
+    int mainCount() {
+        return main.size;
+    }
+
+    /** Returns the number of ghost keys in G. */
+    int ghostCount() {
+        return ghost.size();
+    }
+
+    private K victim(Node<K> node) {
+        pendingVictim = node.key;
+        return node.key;
+    }
+}
@@ -0,0 +1,124 @@
+package com.smartload.lru;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+/**
+ * Segmented LRU (SLRU) eviction strategy implementation.
+ *
+ * Splits the cache into two LRU segments:
+ * - New entries enter the probationary segment
+ * - A hit in probation promotes the entry to the protected segment (80% of the capacity by
+ *   default); a hit in protected moves it to the MRU end there
+ * - Protected overflow demotes its LRU entry back to the MRU end of probation
+ * - The victim is the LRU entry of probation, or of protected when probation is empty
+ *
+ * One-hit wonders therefore only compete with each other in probation, and entries that
+ * are hit at least twice can only be pushed out by other repeatedly used entries.
+ *
+ * Because the protected segment size derives from the cache capacity, the strategy must be
+ * created with the same capacity as the cache it is plugged into:
+ * <pre>
+ *   Cache<String, String> cache = new Cache<>(1000, new SLRUEvictionStrategy<>(1000, 0.8));
+ * </pre>
+ *
+ * Time Complexity:
+ * - recordAccess: O(1)
+ * - recordInsertion: O(1)
+ * - recordRemoval: O(1)
+ * - selectEvictionCandidate: O(1)
+ */
+public class SLRUEvictionStrategy<K, V> implements EvictionStrategy<K, V> {
+
+    private static final double DEFAULT_PROTECTED_RATIO = 0.8;
+
+    private final int protectedMaximum;
+
+    /** Iteration order of each segment is LRU order: the first key is the least recently used. */
+    private final LinkedHashSet<K> probation = new LinkedHashSet<>();
+    private final LinkedHashSet<K> protectedSegment = new LinkedHashSet<>();
+
+    /**
+     * Creates an SLRU strategy for a cache of the given capacity, with 80% of it protected.
+     *
+     * @param maximumSize The capacity of the cache this strategy is used with (must be > 0)
+     * @throws IllegalArgumentException if maximumSize <= 0
+     */
+    public SLRUEvictionStrategy(int maximumSize) {
+        this(maximumSize, DEFAULT_PROTECTED_RATIO);
+    }
+
+    /**
+     * Creates an SLRU strategy for a cache of the given capacity.
+     *
+     * @param maximumSize The capacity of the cache this strategy is used with (must be > 0)
+     * @param protectedRatio The share of the capacity for the protected segment (0 to 1, exclusive)
+     * @throws IllegalArgumentException if maximumSize <= 0 or protectedRatio is not in (0, 1)
+     */
+    public SLRUEvictionStrategy(int maximumSize, double protectedRatio) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be > 0");
+        }
+        if (!(protectedRatio > 0 && protectedRatio < 1)) {
+            throw new IllegalArgumentException("Protected ratio must be between 0 and 1");
+        }
+        this.protectedMaximum = Math.max(1, (int) (maximumSize * protectedRatio));
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        if (probation.remove(key)) {
+            protectedSegment.add(key);
+            if (protectedSegment.size() > protectedMaximum) {
+                probation.add(removeFirst(protectedSegment));
+            }
+        } else if (protectedSegment.remove(key)) {
+            protectedSegment.add(key);
+        }
+    }
+
+    @Override
+    public void recordInsertion(K key) {
+        if (probation.contains(key) || protectedSegment.contains(key)) {
+            recordAccess(key);
+        } else {
+            probation.add(key);
+        }
+    }
+
+    @Override
+    public void recordRemoval(K key) {
+        if (!probation.remove(key)) {
+            protectedSegment.remove(key);
+        }
+    }
+
+    @Override
+    public K selectEvictionCandidate() {
+        // The key just inserted is the MRU entry of probation, so it is only chosen if it is alone
+        K victim = first(probation);
+        if (victim != null && (probation.size() > 1 || protectedSegment.isEmpty())) {
+            return victim;
+        }
+        victim = first(protectedSegment);
+        return (victim != null) ? victim : first(probation);
+    }
+
+    @Override
+    public void clear() {
+        probation.clear();
+        protectedSegment.clear();
+    }
+
+    private static <K> K first(LinkedHashSet<K> segment) {
+        Iterator<K> iterator = segment.iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private static <K> K removeFirst(LinkedHashSet<K> segment) {
+        Iterator<K> iterator = segment.iterator();
+        K key = iterator.next();
+        iterator.remove();
+        return key;
+    }
+}
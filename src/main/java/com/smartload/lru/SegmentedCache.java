@@ -0,0 +1,309 @@
+package com.smartload.lru;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Lock-striped cache that spreads keys across independently locked segments.
+ *
+ * Each segment is a regular {@link Cache} with its own lock and its own
+ * EvictionStrategy instance, so threads working on keys in different segments
+ * never contend with each other. The total capacity is split across the segments,
+ * which means eviction is approximate: a segment evicts according to its own
+ * strategy once its share of the capacity is exceeded, even if other segments
+ * still have room.
+ *
+ * Example usage:
+ * <pre>
+ *   SegmentedCache<String, String> cache =
+ *           new SegmentedCache<>(10_000, 32, LRUEvictionStrategy::new);
+ *   cache.put("key", "value");
+ *   String value = cache.get("key");
+ * </pre>
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class SegmentedCache<K, V> {
+    private final int capacity;
+    private final Cache<K, V>[] segments;
+    private final StatsCounter bulkLoadStats = new StatsCounter();
+
+    /**
+     * Creates a segmented cache with one segment per available processor
+     * (limited by the capacity, so every segment holds at least one entry).
+     *
+     * @param capacity The maximum number of entries in the cache (must be > 0)
+     * @param strategyFactory Creates a fresh eviction strategy for each segment
+     * @throws IllegalArgumentException if capacity <= 0
+     * @throws NullPointerException if strategyFactory is null
+     */
+    public SegmentedCache(int capacity, Supplier<? extends EvictionStrategy<K, V>> strategyFactory) {
+        this(capacity, defaultSegmentCount(capacity), strategyFactory);
+    }
+
+    /**
+     * Creates a segmented cache with the specified capacity and number of segments.
+     *
+     * @param capacity The maximum number of entries in the cache (must be > 0)
+     * @param segmentCount The number of independently locked segments (must be > 0 and <= capacity)
+     * @param strategyFactory Creates a fresh eviction strategy for each segment
+     * @throws IllegalArgumentException if capacity <= 0, or segmentCount is not in [1, capacity]
+     * @throws NullPointerException if strategyFactory is null or returns null
+     */
+    @SuppressWarnings("unchecked")
+    public SegmentedCache(int capacity, int segmentCount,
+                          Supplier<? extends EvictionStrategy<K, V>> strategyFactory) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be > 0");
+        }
+        if (segmentCount <= 0 || segmentCount > capacity) {
+            throw new IllegalArgumentException("Segment count must be > 0 and <= capacity");
+        }
+        if (strategyFactory == null) {
+            throw new NullPointerException("Eviction strategy factory cannot be null");
+        }
+        this.capacity = capacity;
+        this.segments = (Cache<K, V>[]) new Cache<?, ?>[segmentCount];
+
+        // Split the capacity evenly; the first (capacity % segmentCount) segments get one extra slot
+        int baseCapacity = capacity / segmentCount;
+        int remainder = capacity % segmentCount;
+        for (int i = 0; i < segmentCount; i++) {
+            int segmentCapacity = baseCapacity + (i < remainder ? 1 : 0);
+            segments[i] = new Cache<>(segmentCapacity, strategyFactory.get());
+        }
+    }
+
+    private static int defaultSegmentCount(int capacity) {
+        return Math.max(1, Math.min(capacity, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Returns the segment responsible for the given key.
+     * The hash is spread so that keys with poor low-order bits still distribute evenly.
+     */
+    private Cache<K, V> segmentFor(K key) {
+        return segments[segmentIndex(key)];
+    }
+
+    private int segmentIndex(K key) {
+        int h = (key == null) ? 0 : key.hashCode();
+        h ^= (h >>> 16);
+        return Math.floorMod(h, segments.length);
+    }
+
+    /**
+     * Groups the keys by owning segment, so each segment is locked once per bulk operation.
+     */
+    private List<List<K>> groupBySegment(Iterable<? extends K> keys) {
+        List<List<K>> groups = new ArrayList<>(segments.length);
+        for (int i = 0; i < segments.length; i++) {
+            groups.add(new ArrayList<>());
+        }
+        for (K key : keys) {
+            groups.get(segmentIndex(key)).add(key);
+        }
+        return groups;
+    }
+
+    /**
+     * Retrieves the value associated with the key.
+     * Only the segment owning the key is locked.
+     *
+     * Backwards-compatibility: like {@link Cache#get(Object)}, returns
+     * Integer.valueOf(-1) for misses in Integer-valued caches.
+     *
+     * @param key The key to look up
+     * @return The value associated with the key, or a sentinel value if not found
+     */
+    public V get(K key) {
+        return segmentFor(key).get(key);
+    }
+
+    /**
+     * Inserts or updates an entry in the owning segment.
+     * If the segment exceeds its share of the capacity, its strategy selects an entry to evict.
+     *
+     * @param key The key to insert or update
+     * @param value The value to associate with the key
+     */
+    public void put(K key, V value) {
+        segmentFor(key).put(key, value);
+    }
+
+    /**
+     * Removes an entry from the cache if present.
+     *
+     * @param key The key to remove
+     * @return The value that was removed, or null if the key was not in the cache
+     */
+    public V remove(K key) {
+        return segmentFor(key).remove(key);
+    }
+
+    /**
+     * Retrieves the values of several keys, locking each segment once.
+     *
+     * @param keys The keys to look up
+     * @return The values found, in the order of the keys; missing keys are absent (no -1 sentinel)
+     */
+    public Map<K, V> getAll(Iterable<? extends K> keys) {
+        List<K> requested = new ArrayList<>();
+        keys.forEach(requested::add);
+        Map<K, V> found = new HashMap<>();
+        List<List<K>> groups = groupBySegment(requested);
+        for (int i = 0; i < segments.length; i++) {
+            if (!groups.get(i).isEmpty()) {
+                found.putAll(segments[i].getAll(groups.get(i)));
+            }
+        }
+        // Return the values in request order, like Cache.getAll
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : requested) {
+            if (found.containsKey(key)) {
+                result.put(key, found.get(key));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves the values of several keys, loading all missing keys with a single
+     * {@link CacheLoader#loadAll(java.util.Set)} call.
+     *
+     * @param keys The keys to look up
+     * @param loader Loads the missing keys; null results are not cached
+     * @return The cached and loaded values, in the order of the keys; keys without a value are absent
+     * @throws NullPointerException if loader is null
+     * @throws java.util.concurrent.CompletionException wrapping a checked exception thrown by the loader
+     */
+    public Map<K, V> getAll(Iterable<? extends K> keys, CacheLoader<? super K, ? extends V> loader) {
+        return BulkLoading.getAll(keys, this::getAll, loader, this::putAll, bulkLoadStats);
+    }
+
+    /**
+     * Inserts or updates all entries, locking each segment once.
+     *
+     * @param entries The entries to insert or update
+     */
+    public void putAll(Map<? extends K, ? extends V> entries) {
+        List<Map<K, V>> groups = new ArrayList<>(segments.length);
+        for (int i = 0; i < segments.length; i++) {
+            groups.add(new LinkedHashMap<>());
+        }
+        for (Map.Entry<? extends K, ? extends V> entry : entries.entrySet()) {
+            groups.get(segmentIndex(entry.getKey())).put(entry.getKey(), entry.getValue());
+        }
+        for (int i = 0; i < segments.length; i++) {
+            if (!groups.get(i).isEmpty()) {
+                segments[i].putAll(groups.get(i));
+            }
+        }
+    }
+
+    /**
+     * Removes several keys, locking each segment once.
+     *
+     * @param keys The keys to remove
+     * @return The number of entries that were removed
+     */
+    public int removeAll(Iterable<? extends K> keys) {
+        int removed = 0;
+        List<List<K>> groups = groupBySegment(keys);
+        for (int i = 0; i < segments.length; i++) {
+            if (!groups.get(i).isEmpty()) {
+                removed += segments[i].removeAll(groups.get(i));
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Checks if the cache contains the specified key.
+     *
+     * @param key The key to check
+     * @return true if the cache contains the key, false otherwise
+     */
+    public boolean containsKey(K key) {
+        return segmentFor(key).containsKey(key);
+    }
+
+    /**
+     * Returns the current number of entries across all segments.
+     * Segments are read one after another, so the result is not an atomic
+     * snapshot while other threads are modifying the cache.
+     *
+     * @return The current size of the cache
+     */
+    public int size() {
+        int total = 0;
+        for (Cache<K, V> segment : segments) {
+            total += segment.size();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the maximum capacity of the cache (the sum of all segment capacities).
+     *
+     * @return The capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of segments the keys are spread across.
+     *
+     * @return The segment count
+     */
+    public int segmentCount() {
+        return segments.length;
+    }
+
+    /**
+     * Clears all entries from every segment.
+     */
+    public void clear() {
+        for (Cache<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Returns the statistics of all segments combined.
+     *
+     * @return An immutable snapshot of the statistics
+     */
+    public CacheStats stats() {
+        CacheStats total = bulkLoadStats.snapshot();
+        for (Cache<K, V> segment : segments) {
+            total = total.plus(segment.stats());
+        }
+        return total;
+    }
+
+    /**
+     * Returns the type of eviction strategy being used by the segments.
+     *
+     * @return The class name of the eviction strategy
+     */
+    public String getEvictionStrategyName() {
+        return segments[0].getEvictionStrategyName();
+    }
+
+    @Override
+    public String toString() {
+        return "SegmentedCache{" +
+                "capacity=" + capacity +
+                ", segments=" + segments.length +
+                ", size=" + size() +
+                ", strategy=" + getEvictionStrategyName() +
+                "}";
+    }
+}
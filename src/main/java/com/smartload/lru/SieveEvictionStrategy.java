@@ -0,0 +1,121 @@
+package com.smartload.lru;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SIEVE eviction strategy implementation.
+ *
+ * Entries are kept in a single FIFO queue, newest first, and each has a visited bit:
+ * - A hit only sets the visited bit; the queue is never reordered on access
+ * - To evict, a "hand" walks from the oldest entry towards the newest. Visited entries
+ *   get their bit cleared and stay where they are; the first unvisited entry is evicted,
+ *   and the hand keeps its position for the next eviction, wrapping around to the oldest
+ *   entry when it reaches the newest
+ *
+ * Entries that are hit survive in place, while new entries that are never hit again are
+ * evicted quickly, which gives hit ratios comparable to or better than LRU at the cost of
+ * FIFO. Since recordAccess is a single volatile write, the strategy implements
+ * {@link LockFreeAccess} and the caches record hits without their exclusive lock.
+ *
+ * Time Complexity:
+ * - recordAccess: O(1), lock-free
+ * - recordInsertion: O(1)
+ * - recordRemoval: O(1)
+ * - selectEvictionCandidate: O(1) amortized
+ */
+public class SieveEvictionStrategy<K, V> implements EvictionStrategy<K, V>, LockFreeAccess {
+
+    private static final class Node<K> {
+        final K key;
+        volatile boolean visited;
+        Node<K> newer;
+        Node<K> older;
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+
+    /** Concurrent, because recordAccess looks nodes up without the cache lock. */
+    private final Map<K, Node<K>> nodes = new ConcurrentHashMap<>();
+    private Node<K> newest;
+    private Node<K> oldest;
+    /** The next entry to examine; null means start over at the oldest entry. */
+    private Node<K> hand;
+    /** The entry just inserted, which must not be its own eviction victim. */
+    private Node<K> lastInserted;
+
+    @Override
+    public void recordAccess(K key) {
+        Node<K> node = nodes.get(key);
+        if (node != null && !node.visited) {
+            node.visited = true;
+        }
+    }
+
+    @Override
+    public void recordInsertion(K key) {
+        recordRemoval(key);
+        Node<K> node = new Node<>(key);
+        node.older = newest;
+        if (newest == null) {
+            oldest = node;
+        } else {
+            newest.newer = node;
+        }
+        newest = node;
+        nodes.put(key, node);
+        lastInserted = node;
+    }
+
+    @Override
+    public void recordRemoval(K key) {
+        Node<K> node = nodes.remove(key);
+        if (node == null) {
+            return;
+        }
+        if (hand == node) {
+            hand = node.newer;
+        }
+        if (lastInserted == node) {
+            lastInserted = null;
+        }
+        if (node.newer == null) {
+            newest = node.older;
+        } else {
+            node.newer.older = node.older;
+        }
+        if (node.older == null) {
+            oldest = node.newer;
+        } else {
+            node.older.newer = node.newer;
+        }
+    }
+
+    @Override
+    public K selectEvictionCandidate() {
+        if (oldest == null) {
+            return null;
+        }
+        Node<K> node = (hand != null) ? hand : oldest;
+        // Every visited entry has its bit cleared on the first pass, so this ends within two passes
+        int examined = 0;
+        int limit = 2 * nodes.size() + 1;
+        while ((node.visited || node == lastInserted) && examined++ < limit) {
+            node.visited = false;
+            node = (node.newer != null) ? node.newer : oldest;
+        }
+        hand = node;
+        return node.key;
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        newest = null;
+        oldest = null;
+        hand = null;
+        lastInserted = null;
+    }
+}
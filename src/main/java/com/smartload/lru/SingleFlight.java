@@ -0,0 +1,138 @@
+package com.smartload.lru;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coordinates cache loads so that at most one load per key is in flight.
+ *
+ * The first caller that misses on a key registers a future for it and runs the loader;
+ * callers missing on the same key meanwhile wait on that future and receive the same value
+ * (or the same exception). No cache lock is held while the loader runs, so loads of other
+ * keys, and reads and writes of the cache, proceed in parallel.
+ *
+ * A loader must not load the key it is loading (directly or through another cache call),
+ * since it would wait on itself.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+final class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final StatsCounter stats;
+    private final Supplier<CacheLatencies> latencies;
+
+    /**
+     * @param stats Receives the outcome and duration of every load
+     */
+    SingleFlight(StatsCounter stats) {
+        this(stats, () -> null);
+    }
+
+    /**
+     * @param stats Receives the outcome and duration of every load
+     * @param latencies Returns the histograms that receive load times, or null while latency
+     *                  tracking is disabled
+     */
+    SingleFlight(StatsCounter stats, Supplier<CacheLatencies> latencies) {
+        this.stats = stats;
+        this.latencies = latencies;
+    }
+
+    /**
+     * Returns the cached value for the key, loading and storing it on a miss.
+     *
+     * @param key The key
+     * @param lookup Returns the cached value, or null on a miss
+     * @param peek Returns the cached value like lookup, without recording statistics
+     * @param loader Loads the value on a miss
+     * @param store Stores a loaded (non-null) value
+     * @return The cached or loaded value, or null if the loader returned null
+     */
+    V get(K key, Function<K, V> lookup, Function<K, V> peek,
+          CacheLoader<? super K, ? extends V> loader, BiConsumer<K, V> store) {
+        if (loader == null) {
+            throw new NullPointerException("Loader cannot be null");
+        }
+        V value = lookup.apply(key);
+        if (value != null) {
+            return value;
+        }
+
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        long start = System.nanoTime();
+        boolean loaded = false;
+        try {
+            // Another load may have stored the value and left between the lookup and putIfAbsent
+            value = peek.apply(key);
+            if (value != null) {
+                future.complete(value);
+                return value;
+            }
+            value = loader.load(key);
+            loaded = true;
+            long loadTime = System.nanoTime() - start;
+            stats.recordLoadSuccess(loadTime);
+            recordLoadLatency(latencies.get(), loadTime);
+            if (value != null) {
+                store.accept(key, value);
+            }
+            future.complete(value);
+            return value;
+        } catch (Throwable t) {
+            // A failing store (e.g. write-behind back-pressure) fails the callers, not the load
+            if (!loaded) {
+                long loadTime = System.nanoTime() - start;
+                stats.recordLoadFailure(loadTime);
+                recordLoadLatency(latencies.get(), loadTime);
+            }
+            future.completeExceptionally(t);
+            throw propagate(t);
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Returns the number of loads currently in flight.
+     */
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    /** Records a load time in the load histogram, if latency tracking is enabled. */
+    static void recordLoadLatency(CacheLatencies tracked, long loadTimeNanos) {
+        if (tracked != null) {
+            tracked.load().record(loadTimeNanos);
+        }
+    }
+
+    /** Rethrows unchecked exceptions as they are; checked ones are wrapped. */
+    static RuntimeException propagate(Throwable t) {
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new CompletionException(t);
+    }
+}
@@ -0,0 +1,222 @@
+package com.smartload.lru;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Allocates fixed-size chunks of off-heap memory for {@link OffHeapCache}.
+ *
+ * Memory is carved out of direct ByteBuffer slabs. Each slab belongs to one size class and
+ * is split into equal chunks of that class's size; a value goes into the smallest class that
+ * fits it. Classes grow by a factor of 1.25 (64, 80, 96, 112, 128, 160, ...), so at most about
+ * 20% of a chunk is wasted. Slabs are normally {@code slabSize} bytes; a class whose chunks
+ * are larger than that gets one chunk per slab.
+ *
+ * Freed chunks go back to their slab. A slab whose chunks are all free is released (the
+ * direct memory is returned once the buffer is garbage collected), except for the last
+ * slab of a class, which is kept to avoid reallocating on every put/remove cycle.
+ *
+ * A chunk is identified by a handle that packs the slab id (high 32 bits) and the chunk
+ * index within the slab (low 32 bits).
+ *
+ * Not thread-safe; callers are expected to hold the owning cache's lock.
+ */
+final class SlabAllocator {
+    static final int MIN_CHUNK_SIZE = 64;
+    static final int MAX_CHUNK_SIZE = 1 << 30;
+    private static final int[] CHUNK_SIZES = chunkSizes();
+
+    /** A direct buffer split into chunks of one size class. */
+    private static final class Slab {
+        final int id;
+        final int sizeClass;
+        final int chunkSize;
+        final ByteBuffer buffer;
+        final int[] freeChunks;
+        int freeCount;
+        boolean queued; // in its class's queue of slabs with free chunks
+
+        Slab(int id, int sizeClass, int chunkSize, int chunkCount) {
+            this.id = id;
+            this.sizeClass = sizeClass;
+            this.chunkSize = chunkSize;
+            this.buffer = ByteBuffer.allocateDirect(chunkSize * chunkCount);
+            this.freeChunks = new int[chunkCount];
+            // Hand out chunks in address order
+            for (int i = 0; i < chunkCount; i++) {
+                freeChunks[i] = chunkCount - 1 - i;
+            }
+            this.freeCount = chunkCount;
+        }
+
+        boolean isEmpty() {
+            return freeCount == freeChunks.length;
+        }
+    }
+
+    private final int slabSize;
+    private final List<Slab> slabs = new ArrayList<>();
+    private final ArrayDeque<Integer> freeSlabIds = new ArrayDeque<>();
+    // Per size class: slabs that have at least one free chunk (may contain stale entries)
+    private final ArrayDeque<Slab>[] available;
+    private final int[] slabCounts;
+    private long allocatedBytes;
+
+    /**
+     * Creates an allocator that carves chunks out of slabs of the given size.
+     *
+     * @param slabSize The size of a slab in bytes (at least MIN_CHUNK_SIZE)
+     */
+    @SuppressWarnings("unchecked")
+    SlabAllocator(int slabSize) {
+        this.slabSize = Math.max(MIN_CHUNK_SIZE, slabSize);
+        this.available = (ArrayDeque<Slab>[]) new ArrayDeque<?>[CHUNK_SIZES.length];
+        for (int i = 0; i < available.length; i++) {
+            available[i] = new ArrayDeque<>();
+        }
+        this.slabCounts = new int[CHUNK_SIZES.length];
+    }
+
+    /**
+     * Returns the size of the chunk that would hold a value of the given length.
+     *
+     * @param length The value length in bytes (at most MAX_CHUNK_SIZE)
+     * @return The chunk size in bytes
+     */
+    static int chunkSizeFor(int length) {
+        return CHUNK_SIZES[sizeClassFor(length)];
+    }
+
+    /**
+     * Allocates a chunk large enough for the given number of bytes.
+     *
+     * @param length The value length in bytes (at most MAX_CHUNK_SIZE)
+     * @return The handle of the chunk
+     */
+    long allocate(int length) {
+        int sizeClass = sizeClassFor(length);
+        ArrayDeque<Slab> queue = available[sizeClass];
+        Slab slab = queue.peekFirst();
+        while (slab != null && slab.freeCount == 0) {
+            // Became full since it was queued
+            queue.pollFirst();
+            slab.queued = false;
+            slab = queue.peekFirst();
+        }
+        if (slab == null) {
+            slab = newSlab(sizeClass);
+            queue.addFirst(slab);
+            slab.queued = true;
+        }
+        int chunk = slab.freeChunks[--slab.freeCount];
+        return ((long) slab.id << 32) | chunk;
+    }
+
+    /**
+     * Returns a chunk to its slab, releasing the slab if it became empty.
+     *
+     * @param handle A handle returned by {@link #allocate(int)}
+     */
+    void free(long handle) {
+        Slab slab = slabs.get((int) (handle >>> 32));
+        slab.freeChunks[slab.freeCount++] = (int) handle;
+        if (slab.isEmpty() && slabCounts[slab.sizeClass] > 1) {
+            release(slab);
+        } else if (!slab.queued) {
+            available[slab.sizeClass].addLast(slab);
+            slab.queued = true;
+        }
+    }
+
+    /**
+     * Copies the value into the chunk.
+     */
+    void write(long handle, byte[] value) {
+        Slab slab = slabs.get((int) (handle >>> 32));
+        slab.buffer.put(offset(slab, handle), value);
+    }
+
+    /**
+     * Copies the first length bytes of the chunk into a new array.
+     */
+    byte[] read(long handle, int length) {
+        Slab slab = slabs.get((int) (handle >>> 32));
+        byte[] value = new byte[length];
+        slab.buffer.get(offset(slab, handle), value);
+        return value;
+    }
+
+    /**
+     * Returns the off-heap memory held by all slabs, used or not.
+     */
+    long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Releases every slab.
+     */
+    void clear() {
+        slabs.clear();
+        freeSlabIds.clear();
+        for (ArrayDeque<Slab> queue : available) {
+            queue.clear();
+        }
+        Arrays.fill(slabCounts, 0);
+        allocatedBytes = 0;
+    }
+
+    private Slab newSlab(int sizeClass) {
+        int chunkSize = CHUNK_SIZES[sizeClass];
+        int chunkCount = Math.max(1, slabSize / chunkSize);
+        Integer freeId = freeSlabIds.pollFirst();
+        int id = (freeId != null) ? freeId : slabs.size();
+        Slab slab = new Slab(id, sizeClass, chunkSize, chunkCount);
+        if (freeId != null) {
+            slabs.set(id, slab);
+        } else {
+            slabs.add(slab);
+        }
+        slabCounts[sizeClass]++;
+        allocatedBytes += (long) chunkSize * chunkCount;
+        return slab;
+    }
+
+    private void release(Slab slab) {
+        if (slab.queued) {
+            available[slab.sizeClass].remove(slab);
+            slab.queued = false;
+        }
+        slabs.set(slab.id, null);
+        freeSlabIds.addLast(slab.id);
+        slabCounts[slab.sizeClass]--;
+        allocatedBytes -= (long) slab.chunkSize * slab.freeChunks.length;
+    }
+
+    private static int offset(Slab slab, long handle) {
+        return (int) handle * slab.chunkSize;
+    }
+
+    private static int sizeClassFor(int length) {
+        if (length > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Value is larger than " + MAX_CHUNK_SIZE + " bytes");
+        }
+        int index = Arrays.binarySearch(CHUNK_SIZES, Math.max(length, MIN_CHUNK_SIZE));
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /** Sizes 64, 80, 96, 112, 128, 160, ...: four classes per power of two, up to 2^30. */
+    private static int[] chunkSizes() {
+        List<Integer> sizes = new ArrayList<>();
+        for (int power = MIN_CHUNK_SIZE; power < MAX_CHUNK_SIZE; power <<= 1) {
+            for (int step = 0; step < 4; step++) {
+                sizes.add(power + step * (power >> 2));
+            }
+        }
+        sizes.add(MAX_CHUNK_SIZE);
+        return sizes.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
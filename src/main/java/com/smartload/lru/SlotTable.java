@@ -0,0 +1,123 @@
+package com.smartload.lru;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Maps keys to slots of a flat array, for strategies that keep their state in parallel arrays
+ * indexed by slot instead of allocating an object per entry.
+ *
+ * Keys are stored by slot in an Object[]; lookups go through an open-addressing table of
+ * slot + 1 (0 marks an empty bucket) with linear probing and backward-shift deletion, as in
+ * {@link LongKeyCache}. The table is kept at most half full. Callers choose the slots
+ * (typically from a free list) and grow the table with {@link #resize(int)}.
+ *
+ * Not thread-safe.
+ *
+ * @param <K> Key type
+ */
+final class SlotTable<K> {
+    private Object[] keys;
+    private int[] table;
+    private int mask;
+
+    SlotTable(int slots) {
+        allocate(slots);
+    }
+
+    /** Returns the number of slots. */
+    int slots() {
+        return keys.length;
+    }
+
+    /** Returns the slot of the key, or -1 if it has none. */
+    int find(Object key) {
+        int bucket = bucketOf(key);
+        int entry;
+        while ((entry = table[bucket]) != 0) {
+            if (Objects.equals(keys[entry - 1], key)) {
+                return entry - 1;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+        return -1;
+    }
+
+    /** Assigns a free slot to a key that has no slot yet. */
+    void put(K key, int slot) {
+        keys[slot] = key;
+        int bucket = bucketOf(key);
+        while (table[bucket] != 0) {
+            bucket = (bucket + 1) & mask;
+        }
+        table[bucket] = slot + 1;
+    }
+
+    /** Returns the key in the slot. */
+    @SuppressWarnings("unchecked")
+    K keyAt(int slot) {
+        return (K) keys[slot];
+    }
+
+    /**
+     * Frees the slot, shifting later entries of the same probe run back so that every
+     * remaining key is still reachable from its home bucket.
+     */
+    void remove(int slot) {
+        int bucket = bucketOf(keys[slot]);
+        while (table[bucket] != slot + 1) {
+            bucket = (bucket + 1) & mask;
+        }
+        int gap = bucket;
+        int probe = bucket;
+        while (true) {
+            probe = (probe + 1) & mask;
+            int entry = table[probe];
+            if (entry == 0) {
+                break;
+            }
+            int home = bucketOf(keys[entry - 1]);
+            // Move the entry into the gap unless its home lies cyclically in (gap, probe]
+            boolean reachable = (gap <= probe)
+                    ? (home > gap && home <= probe)
+                    : (home > gap || home <= probe);
+            if (!reachable) {
+                table[gap] = entry;
+                gap = probe;
+            }
+        }
+        table[gap] = 0;
+        keys[slot] = null;
+    }
+
+    /** Grows the number of slots, keeping every key in its slot. */
+    void resize(int slots) {
+        Object[] old = keys;
+        allocate(slots);
+        for (int slot = 0; slot < old.length; slot++) {
+            if (old[slot] != null) {
+                @SuppressWarnings("unchecked")
+                K key = (K) old[slot];
+                put(key, slot);
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(table, 0);
+    }
+
+    private void allocate(int slots) {
+        this.keys = new Object[slots];
+        int tableSize = Integer.highestOneBit(Math.max(2, slots) * 2 - 1) << 1;
+        this.table = new int[tableSize];
+        this.mask = tableSize - 1;
+    }
+
+    private int bucketOf(Object key) {
+        // Spread the hash so that keys with sequential hash codes don't form long probe runs
+        int h = Objects.hashCode(key) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
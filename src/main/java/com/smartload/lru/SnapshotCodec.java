@@ -0,0 +1,53 @@
+package com.smartload.lru;
+
+/**
+ * Converts keys or values to bytes and back for cache snapshots.
+ *
+ * <pre>
+ *   SnapshotCodec<String> strings = SnapshotCodec.of(
+ *           s -> s.getBytes(StandardCharsets.UTF_8),
+ *           b -> new String(b, StandardCharsets.UTF_8));
+ * </pre>
+ *
+ * @param <T> The type to encode
+ */
+public interface SnapshotCodec<T> {
+
+    /**
+     * Encodes the object.
+     *
+     * @param object The object to encode
+     * @return Its bytes
+     */
+    byte[] encode(T object);
+
+    /**
+     * Decodes an object encoded by {@link #encode(Object)}.
+     *
+     * @param bytes The encoded bytes
+     * @return The object
+     */
+    T decode(byte[] bytes);
+
+    /**
+     * Creates a codec from two functions.
+     *
+     * @param encoder Encodes an object
+     * @param decoder Decodes an object
+     * @return The codec
+     */
+    static <T> SnapshotCodec<T> of(java.util.function.Function<? super T, byte[]> encoder,
+                                   java.util.function.Function<byte[], ? extends T> decoder) {
+        return new SnapshotCodec<T>() {
+            @Override
+            public byte[] encode(T object) {
+                return encoder.apply(object);
+            }
+
+            @Override
+            public T decode(byte[] bytes) {
+                return decoder.apply(bytes);
+            }
+        };
+    }
+}
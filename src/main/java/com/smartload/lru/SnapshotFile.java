@@ -0,0 +1,217 @@
+package com.smartload.lru;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads and writes cache snapshot files through memory-mapped windows.
+ *
+ * File layout (big-endian):
+ * - Header: int magic ("LRUS"), int version, long record count
+ * - Records, in eviction order (next victim first): long expiry time in epoch millis
+ *   ({@link #NO_EXPIRY} if none), long frequency, int key length, int value length,
+ *   key bytes, value bytes
+ *
+ * The file is mapped in windows of 64 MiB (or one record, if larger), so arbitrarily large
+ * snapshots are streamed with bulk copies between the mapping and the record arrays, and no
+ * more than one window is mapped at a time.
+ *
+ * A snapshot is written to a temporary file next to the target and moved into place by
+ * {@link Writer#commit()}, so a crash during a snapshot never leaves a half-written file
+ * where the next restore would find it.
+ */
+final class SnapshotFile {
+    static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private static final int MAGIC = 0x4C525553;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_HEADER_SIZE = 24;
+    private static final int WINDOW_SIZE = 64 << 20;
+
+    private SnapshotFile() {
+    }
+
+    /**
+     * Appends records to a new snapshot.
+     */
+    static final class Writer implements Closeable {
+        private final Path target;
+        private final Path temporary;
+        private final FileChannel channel;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private long count;
+        private boolean committed;
+
+        Writer(Path target) throws IOException {
+            this.target = target;
+            this.temporary = target.resolveSibling(target.getFileName() + ".tmp");
+            this.channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                this.window = channel.map(FileChannel.MapMode.READ_WRITE, 0, WINDOW_SIZE);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                Files.deleteIfExists(temporary);
+                throw e;
+            }
+            window.putInt(MAGIC).putInt(VERSION).putLong(0);
+        }
+
+        void write(long expiryTime, long frequency, byte[] key, byte[] value) throws IOException {
+            long length = (long) RECORD_HEADER_SIZE + key.length + value.length;
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Entry is too large for a cache snapshot");
+            }
+            if (window.remaining() < length) {
+                windowStart += window.position();
+                window = channel.map(FileChannel.MapMode.READ_WRITE, windowStart, Math.max(WINDOW_SIZE, length));
+            }
+            window.putLong(expiryTime)
+                    .putLong(frequency)
+                    .putInt(key.length)
+                    .putInt(value.length)
+                    .put(key)
+                    .put(value);
+            count++;
+        }
+
+        /**
+         * Writes the record count, trims the unused end of the last window and moves the
+         * file into place.
+         */
+        void commit() throws IOException {
+            long end = windowStart + window.position();
+            window.force();
+            window = null;
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, count), 8);
+            channel.truncate(end);
+            channel.force(true);
+            channel.close();
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                window = null;
+                channel.close();
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+
+    /**
+     * Iterates over the records of a snapshot: call {@link #next()}, then read the fields.
+     */
+    static final class Reader implements Closeable {
+        private final FileChannel channel;
+        private final long fileSize;
+        private final long count;
+        private long read;
+        private MappedByteBuffer window;
+        private long windowStart;
+
+        private long expiryTime;
+        private long frequency;
+        private byte[] key;
+        private byte[] value;
+
+        Reader(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                this.fileSize = channel.size();
+                if (fileSize < HEADER_SIZE) {
+                    throw new IOException("Not a cache snapshot: " + path);
+                }
+                this.window = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(WINDOW_SIZE, fileSize));
+                if (window.getInt() != MAGIC) {
+                    throw new IOException("Not a cache snapshot: " + path);
+                }
+                int version = window.getInt();
+                if (version != VERSION) {
+                    throw new IOException("Unsupported cache snapshot version " + version);
+                }
+                this.count = window.getLong();
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        long count() {
+            return count;
+        }
+
+        /**
+         * Advances to the next record.
+         *
+         * @return false if all records have been read
+         * @throws IOException if the file ends in the middle of a record
+         */
+        boolean next() throws IOException {
+            if (read == count) {
+                return false;
+            }
+            ensureAvailable(RECORD_HEADER_SIZE);
+            expiryTime = window.getLong();
+            frequency = window.getLong();
+            int keyLength = window.getInt();
+            int valueLength = window.getInt();
+            if (keyLength < 0 || valueLength < 0) {
+                throw new IOException("Corrupt cache snapshot record " + read);
+            }
+            ensureAvailable((long) keyLength + valueLength);
+            key = new byte[keyLength];
+            value = new byte[valueLength];
+            window.get(key).get(value);
+            read++;
+            return true;
+        }
+
+        long expiryTime() {
+            return expiryTime;
+        }
+
+        long frequency() {
+            return frequency;
+        }
+
+        byte[] key() {
+            return key;
+        }
+
+        byte[] value() {
+            return value;
+        }
+
+        /** Remaps the window at the current position if fewer than length bytes are left in it. */
+        private void ensureAvailable(long length) throws IOException {
+            if (window.remaining() >= length) {
+                return;
+            }
+            long position = windowStart + window.position();
+            if (fileSize - position < length || length > Integer.MAX_VALUE) {
+                throw new IOException("Truncated cache snapshot");
+            }
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(fileSize - position, Math.max(WINDOW_SIZE, length)));
+        }
+
+        @Override
+        public void close() throws IOException {
+            window = null;
+            channel.close();
+        }
+    }
+}
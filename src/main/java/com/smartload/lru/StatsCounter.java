@@ -0,0 +1,69 @@
+package com.smartload.lru;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records cache statistics in striped {@link LongAdder} counters.
+ *
+ * Recording never blocks and does not need the cache lock; under contention each thread
+ * mostly updates its own cell, so the counters stay cheap enough to leave on in production.
+ * {@link #snapshot()} sums the cells into an immutable {@link CacheStats}.
+ */
+final class StatsCounter {
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder putCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder[] evictionCounts = new LongAdder[EvictionCause.values().length];
+
+    StatsCounter() {
+        for (int i = 0; i < evictionCounts.length; i++) {
+            evictionCounts[i] = new LongAdder();
+        }
+    }
+
+    void recordHit() {
+        hitCount.increment();
+    }
+
+    void recordMiss() {
+        missCount.increment();
+    }
+
+    void recordHits(int count) {
+        hitCount.add(count);
+    }
+
+    void recordMisses(int count) {
+        missCount.add(count);
+    }
+
+    void recordPut() {
+        putCount.increment();
+    }
+
+    void recordLoadSuccess(long loadTimeNanos) {
+        loadSuccessCount.increment();
+        totalLoadTime.add(loadTimeNanos);
+    }
+
+    void recordLoadFailure(long loadTimeNanos) {
+        loadFailureCount.increment();
+        totalLoadTime.add(loadTimeNanos);
+    }
+
+    void recordEviction(EvictionCause cause) {
+        evictionCounts[cause.ordinal()].increment();
+    }
+
+    CacheStats snapshot() {
+        long[] evictions = new long[evictionCounts.length];
+        for (int i = 0; i < evictions.length; i++) {
+            evictions[i] = evictionCounts[i].sum();
+        }
+        return new CacheStats(hitCount.sum(), missCount.sum(), putCount.sum(),
+                loadSuccessCount.sum(), loadFailureCount.sum(), totalLoadTime.sum(), evictions);
+    }
+}
@@ -1,8 +1,23 @@
 package com.smartload.lru;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
 
 /**
  * Thread-safe cache with TTL (Time-To-Live) support and pluggable eviction strategies.
@@ -11,6 +26,11 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * - Pluggable eviction strategies (LRU, FIFO, LFU, custom)
  * - Per-entry TTL expiration
  * - Lazy expiration (expired entries removed on access)
+ * - Proactive expiration via a hierarchical {@link TimingWheel}: {@link #cleanupExpired()}
+ *   and capacity overflow only visit entries that are actually expiring, never the whole map
+ * - Optional background maintenance that expires entries in short, time-boxed slices
+ * - Optional refresh-after-write: reads of an aging entry trigger an asynchronous reload
+ *   while the current value keeps being served
  * - Thread-safe with ReentrantReadWriteLock
  * - O(1) average time complexity for get/put operations
  * 
@@ -30,13 +50,32 @@ public class TTLCache<K, V> {
     private final EvictionStrategy<K, V> evictionStrategy;
     private int size;
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TimingWheel<K> timingWheel;
+
+    /** Wall clock in milliseconds; every expiry decision reads it through {@link #now()}. */
+    private final LongSupplier clock;
+    /** The latest time returned by {@link #now()}, so that time never goes backwards. */
+    private final AtomicLong lastTime = new AtomicLong(Long.MIN_VALUE);
+
+    // Background maintenance (disabled unless enableMaintenance is called)
+    private static final long MAINTENANCE_SLICE_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int MAINTENANCE_SLICE_CHECK_INTERVAL = 16;
+    private static final long MAINTENANCE_MIN_INTERVAL_MILLIS = 100;
+    private final AtomicBoolean maintenanceScheduled = new AtomicBoolean(false);
+    private volatile Executor maintenanceExecutor;
+    private volatile ScheduledExecutorService maintenanceScheduler;
+    private volatile long lastMaintenanceTime;
+    private volatile int lastMaintenanceSlices;
+
+    // Refresh-after-write (disabled unless enableRefresh is called)
+    private volatile long refreshAfterWriteMillis;
+    private volatile CacheLoader<? super K, ? extends V> refreshLoader;
+    private volatile Executor refreshExecutor;
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
     
-    // Statistics tracking
-    private long totalPuts = 0;
-    private long totalGets = 0;
-    private long cacheHits = 0;
-    private long cacheMisses = 0;
-    private long expirations = 0;
+    // Statistics tracking (striped counters; recording does not need the lock)
+    private final StatsCounter stats = new StatsCounter();
+    private final SingleFlight<K, V> singleFlight = new SingleFlight<>(stats);
 
     /**
      * Creates a TTL-aware cache with the specified capacity and eviction strategy.
@@ -47,6 +86,13 @@ public class TTLCache<K, V> {
      * @throws NullPointerException if evictionStrategy is null
      */
     public TTLCache(int capacity, EvictionStrategy<K, V> evictionStrategy) {
+        this(capacity, evictionStrategy, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a TTL-aware cache that reads the time from the given clock (for tests).
+     */
+    TTLCache(int capacity, EvictionStrategy<K, V> evictionStrategy, LongSupplier clock) {
         if (capacity <= 0) {
             throw new IllegalArgumentException("Capacity must be > 0");
         }
@@ -57,6 +103,8 @@ public class TTLCache<K, V> {
         this.map = new HashMap<>();
         this.evictionStrategy = evictionStrategy;
         this.size = 0;
+        this.clock = clock;
+        this.timingWheel = new TimingWheel<>(now());
     }
 
     /**
@@ -79,33 +127,88 @@ public class TTLCache<K, V> {
     public void put(K key, V value, long ttlMillis) {
         lock.writeLock().lock();
         try {
-            totalPuts++;
-            
-            // Check if key already exists
-            if (map.containsKey(key)) {
-                // Update existing entry
-                map.put(key, new CacheEntry<>(value, ttlMillis));
-                evictionStrategy.recordAccess(key);
-                return;
-            }
+            putLocked(key, value, ttlMillis);
+        } finally {
+            lock.writeLock().unlock();
+            scheduleMaintenanceIfNeeded();
+        }
+    }
 
-            // New entry - add to map and record insertion
-            CacheEntry<V> entry = new CacheEntry<>(value, ttlMillis);
-            map.put(key, entry);
-            evictionStrategy.recordInsertion(key);
-            size++;
-
-            // If capacity exceeded, evict the candidate selected by strategy
-            if (size > capacity) {
-                K evictionCandidate = evictionStrategy.selectEvictionCandidate();
-                if (evictionCandidate != null) {
-                    map.remove(evictionCandidate);
-                    evictionStrategy.recordRemoval(evictionCandidate);
-                    size--;
-                }
+    /**
+     * Inserts or updates all entries without expiry under a single lock acquisition.
+     * 
+     * @param entries The entries to insert or update
+     */
+    public void putAll(Map<? extends K, ? extends V> entries) {
+        putAll(entries, Long.MAX_VALUE);
+    }
+
+    /**
+     * Inserts or updates all entries with the same TTL under a single lock acquisition.
+     * Equivalent to calling {@link #put(Object, Object, long)} for each entry, in iteration order.
+     * 
+     * @param entries The entries to insert or update
+     * @param ttlMillis Time-to-live in milliseconds. Use Long.MAX_VALUE for no expiry.
+     */
+    public void putAll(Map<? extends K, ? extends V> entries, long ttlMillis) {
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<? extends K, ? extends V> entry : entries.entrySet()) {
+                putLocked(entry.getKey(), entry.getValue(), ttlMillis);
             }
         } finally {
             lock.writeLock().unlock();
+            scheduleMaintenanceIfNeeded();
+        }
+    }
+
+    /**
+     * Inserts or updates one entry, reclaiming or evicting an entry on overflow.
+     * Caller holds the write lock.
+     */
+    private void putLocked(K key, V value, long ttlMillis) {
+        stats.recordPut();
+        storeLocked(key, value, ttlMillis);
+        evictIfNeeded();
+    }
+
+    /**
+     * Inserts or updates one entry without evicting. Caller holds the write lock.
+     */
+    private void storeLocked(K key, V value, long ttlMillis) {
+        // Check if key already exists
+        if (map.containsKey(key)) {
+            // Update existing entry
+            CacheEntry<V> entry = new CacheEntry<>(value, ttlMillis, now());
+            map.put(key, entry);
+            scheduleExpiry(key, entry);
+            evictionStrategy.recordAccess(key);
+            return;
+        }
+
+        // New entry - add to map and record insertion
+        CacheEntry<V> entry = new CacheEntry<>(value, ttlMillis, now());
+        map.put(key, entry);
+        scheduleExpiry(key, entry);
+        evictionStrategy.recordInsertion(key);
+        size++;
+    }
+
+    /**
+     * Makes room after an insertion. Caller holds the write lock.
+     */
+    private void evictIfNeeded() {
+        // If capacity exceeded, reclaim an expired entry if there is one,
+        // otherwise evict the candidate selected by strategy
+        if (size > capacity && !expireOne()) {
+            K evictionCandidate = evictionStrategy.selectEvictionCandidate();
+            if (evictionCandidate != null) {
+                map.remove(evictionCandidate);
+                evictionStrategy.recordRemoval(evictionCandidate);
+                timingWheel.deschedule(evictionCandidate);
+                size--;
+                stats.recordEviction(EvictionCause.SIZE);
+            }
         }
     }
 
@@ -120,51 +223,200 @@ public class TTLCache<K, V> {
      * @return The value if found and not expired, null otherwise (or -1 for Integer values)
      */
     public V get(K key) {
-        lock.writeLock().lock();
+        CacheEntry<V> entry = lookup(key);
+        if (entry == null) {
+            // Backward compatibility for Integer-valued caches
+            try {
+                @SuppressWarnings("unchecked")
+                V sentinel = (V) Integer.valueOf(-1);
+                return sentinel;
+            } catch (ClassCastException e) {
+                return null;
+            }
+        }
+        refreshIfNeeded(key, entry);
+        return entry.getValue();
+    }
+
+    /**
+     * Retrieves the value associated with the key, without the -1 sentinel on a miss.
+     * 
+     * @param key The key to look up
+     * @return The value if found and not expired, null otherwise
+     */
+    public V getIfPresent(K key) {
+        CacheEntry<V> entry = lookup(key);
+        if (entry == null) {
+            return null;
+        }
+        refreshIfNeeded(key, entry);
+        return entry.getValue();
+    }
+
+    /**
+     * Retrieves the value associated with the key, loading it with the loader if it is
+     * missing or expired. The loaded value is stored without expiry.
+     * 
+     * Only one load per key is in flight at a time: concurrent callers that miss on the
+     * same key wait for that load and get its result (or its exception) instead of calling
+     * the loader themselves. The cache lock is not held while the loader runs.
+     * 
+     * @param key The key to look up
+     * @param loader Computes the value if the key is missing; null results are not cached
+     * @return The cached or loaded value
+     * @throws NullPointerException if loader is null
+     * @throws java.util.concurrent.CompletionException wrapping a checked exception thrown by the loader
+     */
+    public V get(K key, CacheLoader<? super K, ? extends V> loader) {
+        return get(key, loader, Long.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves the value associated with the key, loading it with the loader if it is
+     * missing or expired, and storing the loaded value with the given TTL.
+     * 
+     * @param key The key to look up
+     * @param loader Computes the value if the key is missing; null results are not cached
+     * @param ttlMillis Time-to-live of a loaded value in milliseconds
+     * @return The cached or loaded value
+     * @see #get(Object, CacheLoader)
+     */
+    public V get(K key, CacheLoader<? super K, ? extends V> loader, long ttlMillis) {
+        return singleFlight.get(key, this::getIfPresent, this::peek, loader,
+                (k, value) -> put(k, value, ttlMillis));
+    }
+
+    /**
+     * Returns the live value for the key without recording an access or statistics.
+     */
+    private V peek(K key) {
+        lock.readLock().lock();
         try {
-            totalGets++;
-            
             CacheEntry<V> entry = map.get(key);
-            
-            if (entry == null) {
-                cacheMisses++;
-                // Backward compatibility for Integer-valued caches
-                try {
-                    @SuppressWarnings("unchecked")
-                    V sentinel = (V) Integer.valueOf(-1);
-                    return sentinel;
-                } catch (ClassCastException e) {
-                    return null;
+            return (entry == null || entry.isExpired(now())) ? null : entry.getValue();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the live values of several keys under a single lock acquisition,
+     * expiring stale entries and recording an access for each key found.
+     * 
+     * @param keys The keys to look up
+     * @return The values found, in the order of the keys; missing or expired keys are absent
+     */
+    public Map<K, V> getAll(Iterable<? extends K> keys) {
+        Map<K, CacheEntry<V>> found = new LinkedHashMap<>();
+        lock.writeLock().lock();
+        try {
+            for (K key : keys) {
+                CacheEntry<V> entry = lookupLocked(key);
+                if (entry != null) {
+                    found.put(key, entry);
                 }
             }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Map<K, V> result = new LinkedHashMap<>();
+        for (Map.Entry<K, CacheEntry<V>> entry : found.entrySet()) {
+            refreshIfNeeded(entry.getKey(), entry.getValue());
+            result.put(entry.getKey(), entry.getValue().getValue());
+        }
+        return result;
+    }
 
-            // Check if entry has expired (lazy eviction)
-            if (entry.isExpired()) {
-                map.remove(key);
-                evictionStrategy.recordRemoval(key);
-                size--;
-                expirations++;
-                cacheMisses++;
-                
-                // Backward compatibility
-                try {
-                    @SuppressWarnings("unchecked")
-                    V sentinel = (V) Integer.valueOf(-1);
-                    return sentinel;
-                } catch (ClassCastException e) {
-                    return null;
+    /**
+     * Retrieves the values of several keys, loading all missing or expired keys with a single
+     * {@link CacheLoader#loadAll(java.util.Set)} call and storing them without expiry.
+     * 
+     * @param keys The keys to look up
+     * @param loader Loads the missing keys; null results are not cached
+     * @return The cached and loaded values, in the order of the keys; keys without a value are absent
+     * @throws NullPointerException if loader is null
+     * @throws java.util.concurrent.CompletionException wrapping a checked exception thrown by the loader
+     */
+    public Map<K, V> getAll(Iterable<? extends K> keys, CacheLoader<? super K, ? extends V> loader) {
+        return getAll(keys, loader, Long.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves the values of several keys, loading all missing or expired keys with a single
+     * {@link CacheLoader#loadAll(java.util.Set)} call and storing them with the given TTL.
+     * 
+     * @param keys The keys to look up
+     * @param loader Loads the missing keys; null results are not cached
+     * @param ttlMillis Time-to-live of loaded values in milliseconds
+     * @return The cached and loaded values, in the order of the keys; keys without a value are absent
+     * @see #getAll(Iterable, CacheLoader)
+     */
+    public Map<K, V> getAll(Iterable<? extends K> keys, CacheLoader<? super K, ? extends V> loader,
+                            long ttlMillis) {
+        return BulkLoading.getAll(keys, this::getAll, loader, loaded -> putAll(loaded, ttlMillis), stats);
+    }
+
+    /**
+     * Removes several keys under a single lock acquisition.
+     * 
+     * @param keys The keys to remove
+     * @return The number of live (not expired) entries that were removed
+     */
+    public int removeAll(Iterable<? extends K> keys) {
+        lock.writeLock().lock();
+        try {
+            int removed = 0;
+            for (K key : keys) {
+                if (removeLocked(key) != null) {
+                    removed++;
                 }
             }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
 
-            // Valid entry found
-            cacheHits++;
-            evictionStrategy.recordAccess(key);
-            return entry.getValue();
+    /**
+     * Finds the live entry for the key, expiring it if it is stale, and updates statistics.
+     */
+    private CacheEntry<V> lookup(K key) {
+        lock.writeLock().lock();
+        try {
+            return lookupLocked(key);
         } finally {
             lock.writeLock().unlock();
         }
     }
 
+    /**
+     * Same as {@link #lookup(Object)}; caller holds the write lock.
+     */
+    private CacheEntry<V> lookupLocked(K key) {
+        CacheEntry<V> entry = map.get(key);
+        
+        if (entry == null) {
+            stats.recordMiss();
+            return null;
+        }
+
+        // Check if entry has expired (lazy eviction)
+        if (entry.isExpired(now())) {
+            map.remove(key);
+            evictionStrategy.recordRemoval(key);
+            timingWheel.deschedule(key);
+            size--;
+            stats.recordEviction(EvictionCause.EXPIRED);
+            stats.recordMiss();
+            return null;
+        }
+
+        // Valid entry found
+        stats.recordHit();
+        evictionStrategy.recordAccess(key);
+        return entry;
+    }
+
     /**
      * Removes an entry from the cache if present and not expired.
      * Lazy expiration: expired entries are treated as not present.
@@ -175,28 +427,133 @@ public class TTLCache<K, V> {
     public V remove(K key) {
         lock.writeLock().lock();
         try {
-            CacheEntry<V> entry = map.get(key);
-            if (entry == null) {
-                return null;
+            CacheEntry<V> entry = removeLocked(key);
+            return entry == null ? null : entry.getValue();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes one entry; an expired entry is removed too but treated as not present.
+     * Caller holds the write lock.
+     */
+    private CacheEntry<V> removeLocked(K key) {
+        CacheEntry<V> entry = map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        
+        map.remove(key);
+        evictionStrategy.recordRemoval(key);
+        timingWheel.deschedule(key);
+        size--;
+        
+        // If entry is expired, treat it as not present
+        if (entry.isExpired(now())) {
+            stats.recordEviction(EvictionCause.EXPIRED);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Writes all live entries to a snapshot file with their expiry times, in eviction order
+     * and with the access frequencies of strategies that count them (see {@link RestorableStrategy}).
+     * Expired entries are left out.
+     * 
+     * Entries are copied under the lock; encoding and writing happen after it is released.
+     * The file is written next to the given path and moved into place when complete.
+     * 
+     * @param path The snapshot file to create or replace
+     * @param keyCodec Encodes the keys
+     * @param valueCodec Encodes the values
+     * @return The number of entries written
+     * @throws IOException if the file cannot be written
+     */
+    @SuppressWarnings("unchecked")
+    public int snapshot(Path path, SnapshotCodec<K> keyCodec, SnapshotCodec<V> valueCodec) throws IOException {
+        List<K> keys = new ArrayList<>();
+        List<CacheEntry<V>> entries = new ArrayList<>();
+        List<Long> frequencies = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            RestorableStrategy<K> restorable = (evictionStrategy instanceof RestorableStrategy)
+                    ? (RestorableStrategy<K>) evictionStrategy : null;
+            Iterable<K> order = (restorable != null) ? restorable.evictionOrder() : map.keySet();
+            long now = now();
+            for (K key : order) {
+                CacheEntry<V> entry = map.get(key);
+                if (entry != null && !entry.isExpired(now)) {
+                    keys.add(key);
+                    entries.add(entry);
+                    frequencies.add(restorable != null ? restorable.frequency(key) : 1L);
+                }
             }
-            
-            // If entry is expired, treat it as not present
-            if (entry.isExpired()) {
-                map.remove(key);
-                evictionStrategy.recordRemoval(key);
-                size--;
-                expirations++;
-                return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try (SnapshotFile.Writer writer = new SnapshotFile.Writer(path)) {
+            for (int i = 0; i < keys.size(); i++) {
+                CacheEntry<V> entry = entries.get(i);
+                writer.write(entry.getExpiryTime(), frequencies.get(i),
+                        keyCodec.encode(keys.get(i)), valueCodec.encode(entry.getValue()));
+            }
+            writer.commit();
+        }
+        return keys.size();
+    }
+
+    /**
+     * Loads the entries of a snapshot file written by {@link #snapshot} (or by
+     * {@link Cache#snapshot}), skipping entries that have expired since the snapshot was taken.
+     * Restored entries keep their original expiry time.
+     * 
+     * Entries are inserted in the saved eviction order and get their saved frequencies back,
+     * so the strategy resumes where the snapshot left off. If the snapshot holds more than
+     * the cache can, the entries that would have been evicted first are dropped. Existing
+     * entries are kept unless the snapshot has the same key. The file is read sequentially
+     * through memory-mapped windows; restored entries are not counted as puts.
+     * 
+     * @param path The snapshot file
+     * @param keyCodec Decodes the keys
+     * @param valueCodec Decodes the values
+     * @return The number of entries restored
+     * @throws IOException if the file cannot be read or is not a cache snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public int restore(Path path, SnapshotCodec<K> keyCodec, SnapshotCodec<V> valueCodec) throws IOException {
+        RestorableStrategy<K> restorable = (evictionStrategy instanceof RestorableStrategy)
+                ? (RestorableStrategy<K>) evictionStrategy : null;
+        int restored = 0;
+        try (SnapshotFile.Reader reader = new SnapshotFile.Reader(path)) {
+            while (reader.next()) {
+                long expiryTime = reader.expiryTime();
+                long now = now();
+                if (expiryTime <= now) {
+                    continue;
+                }
+                long ttlMillis = (expiryTime == SnapshotFile.NO_EXPIRY) ? Long.MAX_VALUE : expiryTime - now;
+                K key = keyCodec.decode(reader.key());
+                V value = valueCodec.decode(reader.value());
+                lock.writeLock().lock();
+                try {
+                    storeLocked(key, value, ttlMillis);
+                    // Restore the frequency first, so eviction compares it with the others
+                    if (restorable != null) {
+                        restorable.restoreFrequency(key, reader.frequency());
+                    }
+                    evictIfNeeded();
+                    restored++;
+                } finally {
+                    lock.writeLock().unlock();
+                }
             }
-            
-            // Valid entry - remove and return it
-            map.remove(key);
-            evictionStrategy.recordRemoval(key);
-            size--;
-            return entry.getValue();
         } finally {
-            lock.writeLock().unlock();
+            scheduleMaintenanceIfNeeded();
         }
+        return restored;
     }
 
     /**
@@ -209,7 +566,7 @@ public class TTLCache<K, V> {
         lock.readLock().lock();
         try {
             CacheEntry<V> entry = map.get(key);
-            return entry != null && !entry.isExpired();
+            return entry != null && !entry.isExpired(now());
         } finally {
             lock.readLock().unlock();
         }
@@ -217,33 +574,337 @@ public class TTLCache<K, V> {
 
     /**
      * Removes all expired entries from the cache.
-     * This is an active cleanup operation (not lazy).
+     * This is an active cleanup operation (not lazy). Only entries tracked as expiring
+     * by the timing wheel are visited, so the cost does not grow with the cache size.
      * 
      * @return The number of entries that were expired and removed
      */
     public int cleanupExpired() {
         lock.writeLock().lock();
         try {
+            long now = now();
+            timingWheel.advance(now);
             int removed = 0;
-            var iterator = map.entrySet().iterator();
-            
-            while (iterator.hasNext()) {
-                var entry = iterator.next();
-                if (entry.getValue().isExpired()) {
-                    iterator.remove();
-                    evictionStrategy.recordRemoval(entry.getKey());
-                    size--;
-                    expirations++;
+            K key;
+            while ((key = timingWheel.pollExpired()) != null) {
+                if (expireEntry(key, now)) {
                     removed++;
                 }
             }
-            
             return removed;
         } finally {
             lock.writeLock().unlock();
         }
     }
 
+    /**
+     * Expires due entries incrementally. The work is split into slices that each hold the
+     * write lock for roughly 100 microseconds at most, releasing it in between so readers
+     * and writers are never stalled by one long sweep. Both advancing the timing wheel and
+     * removing the expired entries are sliced, so a large batch of TTLs coming due together
+     * takes more slices rather than a longer one.
+     * 
+     * This is what background maintenance runs; it may also be called directly.
+     * 
+     * @return The number of entries that were expired and removed
+     */
+    public int runMaintenance() {
+        long now = now();
+        lastMaintenanceTime = now;
+        int removed = 0;
+        int slices = 0;
+        boolean caughtUp = false;
+        boolean moreWork = true;
+        while (moreWork) {
+            lock.writeLock().lock();
+            try {
+                slices++;
+                long deadline = System.nanoTime() + MAINTENANCE_SLICE_NANOS;
+                // Advancing the wheel is sliced too: many timers can come due at once
+                while (!caughtUp) {
+                    caughtUp = timingWheel.advance(now, MAINTENANCE_SLICE_CHECK_INTERVAL);
+                    if (System.nanoTime() - deadline >= 0) {
+                        break;
+                    }
+                }
+                if (caughtUp) {
+                    int processed = 0;
+                    K key;
+                    while ((key = timingWheel.pollExpired()) != null) {
+                        if (expireEntry(key, now)) {
+                            removed++;
+                        }
+                        // Reading the clock is not free, so only check the deadline every few entries
+                        if (++processed % MAINTENANCE_SLICE_CHECK_INTERVAL == 0
+                                && System.nanoTime() - deadline >= 0) {
+                            break;
+                        }
+                    }
+                }
+                moreWork = !caughtUp || timingWheel.hasExpired();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        lastMaintenanceSlices = slices;
+        return removed;
+    }
+
+    /**
+     * Returns the number of lock slices the last maintenance run took.
+     */
+    int lastMaintenanceSlices() {
+        return lastMaintenanceSlices;
+    }
+
+    /**
+     * Runs maintenance periodically on a dedicated daemon thread owned by this cache.
+     * Stop it with {@link #shutdownMaintenance()}.
+     * 
+     * @param period The delay between the end of one maintenance run and the start of the next
+     * @param unit The time unit of the period
+     * @throws IllegalArgumentException if period <= 0
+     * @throws IllegalStateException if maintenance is already enabled
+     */
+    public synchronized void enableMaintenance(long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Maintenance period must be > 0");
+        }
+        if (maintenanceScheduler != null || maintenanceExecutor != null) {
+            throw new IllegalStateException("Maintenance is already enabled");
+        }
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "TTLCache-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::runMaintenance, period, period, unit);
+        this.maintenanceScheduler = scheduler;
+    }
+
+    /**
+     * Runs maintenance on a caller-provided executor. A run is submitted after writes,
+     * at most once every 100 milliseconds and never while a previous run is still pending.
+     * 
+     * @param executor The executor to run maintenance on
+     * @throws NullPointerException if executor is null
+     * @throws IllegalStateException if maintenance is already enabled
+     */
+    public synchronized void enableMaintenance(Executor executor) {
+        if (executor == null) {
+            throw new NullPointerException("Maintenance executor cannot be null");
+        }
+        if (maintenanceScheduler != null || maintenanceExecutor != null) {
+            throw new IllegalStateException("Maintenance is already enabled");
+        }
+        this.maintenanceExecutor = executor;
+    }
+
+    /**
+     * Stops background maintenance. Shuts down the thread created by
+     * {@link #enableMaintenance(long, TimeUnit)}; a caller-provided executor is left running.
+     */
+    public synchronized void shutdownMaintenance() {
+        if (maintenanceScheduler != null) {
+            maintenanceScheduler.shutdownNow();
+            maintenanceScheduler = null;
+        }
+        maintenanceExecutor = null;
+    }
+
+    /**
+     * Enables refresh-after-write. Once an entry is older than the refresh interval but not
+     * yet expired, the first read triggers a reload on the executor and keeps returning the
+     * current value until the reload replaces it, so hot entries never take a synchronous
+     * miss at expiry. At most one refresh per key runs at a time; a refreshed entry keeps the
+     * TTL it was written with, counted from the refresh. Reloads are recorded in the load
+     * statistics. If a reload fails or returns null, the current value stays and the entry is
+     * not refreshed again for another refresh interval.
+     * 
+     * @param refreshAfterWrite How long after a write an entry becomes eligible for refresh (must be > 0)
+     * @param unit The unit of refreshAfterWrite
+     * @param loader Reloads the value of a key
+     * @param executor The executor that runs reloads
+     * @throws IllegalArgumentException if refreshAfterWrite <= 0
+     * @throws NullPointerException if loader or executor is null
+     * @throws IllegalStateException if refresh is already enabled
+     */
+    public synchronized void enableRefresh(long refreshAfterWrite, TimeUnit unit,
+                                           CacheLoader<? super K, ? extends V> loader, Executor executor) {
+        if (refreshAfterWrite <= 0) {
+            throw new IllegalArgumentException("Refresh interval must be > 0");
+        }
+        if (loader == null) {
+            throw new NullPointerException("Refresh loader cannot be null");
+        }
+        if (executor == null) {
+            throw new NullPointerException("Refresh executor cannot be null");
+        }
+        if (refreshAfterWriteMillis > 0) {
+            throw new IllegalStateException("Refresh is already enabled");
+        }
+        this.refreshLoader = loader;
+        this.refreshExecutor = executor;
+        // Written last: a reader that sees the interval also sees the loader and executor
+        this.refreshAfterWriteMillis = Math.max(1, unit.toMillis(refreshAfterWrite));
+    }
+
+    /**
+     * Starts an asynchronous reload of the entry if it is due for refresh and no reload of the
+     * key is already running. Called after reads, outside the lock.
+     */
+    private void refreshIfNeeded(K key, CacheEntry<V> entry) {
+        long refreshMillis = refreshAfterWriteMillis;
+        if (refreshMillis <= 0) {
+            return;
+        }
+        long now = now();
+        if (now - entry.getWriteTime() < refreshMillis || now < entry.getRefreshRetryTime()) {
+            return;
+        }
+        if (!refreshing.add(key)) {
+            return;
+        }
+        CacheLoader<? super K, ? extends V> loader = refreshLoader;
+        try {
+            refreshExecutor.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    V value = loader.load(key);
+                    stats.recordLoadSuccess(System.nanoTime() - start);
+                    if (value != null) {
+                        replaceIfUnchanged(key, entry, value);
+                    } else {
+                        entry.setRefreshRetryTime(now() + refreshMillis);
+                    }
+                } catch (Exception e) {
+                    stats.recordLoadFailure(System.nanoTime() - start);
+                    // Keep serving the current value and back off before retrying
+                    entry.setRefreshRetryTime(now() + refreshMillis);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * Replaces the entry with a refreshed value, unless it was updated, removed or expired
+     * while the reload was running.
+     */
+    private void replaceIfUnchanged(K key, CacheEntry<V> expected, V value) {
+        lock.writeLock().lock();
+        try {
+            if (map.get(key) != expected || expected.isExpired(now())) {
+                return;
+            }
+            CacheEntry<V> entry = new CacheEntry<>(value, expected.getTtlMillis(), now());
+            map.put(key, entry);
+            scheduleExpiry(key, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Submits a maintenance run to the caller-provided executor, if one is configured
+     * and no run happened recently. Called after writes, outside the lock.
+     */
+    private void scheduleMaintenanceIfNeeded() {
+        Executor executor = maintenanceExecutor;
+        if (executor == null
+                || now() - lastMaintenanceTime < MAINTENANCE_MIN_INTERVAL_MILLIS
+                || !maintenanceScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    runMaintenance();
+                } finally {
+                    maintenanceScheduled.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Try again after a later write
+            maintenanceScheduled.set(false);
+        }
+    }
+
+    /**
+     * Removes a single expired entry, if the timing wheel has one due.
+     * Must be called with the write lock held.
+     * 
+     * @return true if an expired entry was removed
+     */
+    private boolean expireOne() {
+        long now = now();
+        timingWheel.advance(now);
+        K key;
+        while ((key = timingWheel.pollExpired()) != null) {
+            if (expireEntry(key, now)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the entry for a key whose timer fired. Must be called with the write lock held.
+     * 
+     * @param key The key reported by the timing wheel
+     * @param now The time the wheel was advanced to
+     * @return true if the entry was present and expired, and has been removed
+     */
+    private boolean expireEntry(K key, long now) {
+        CacheEntry<V> entry = map.get(key);
+        if (entry == null) {
+            return false;
+        }
+        if (!entry.isExpired(now)) {
+            // Not due yet (e.g. rescheduled by an update); keep tracking it. The wheel defers
+            // a timer that is already due to its next tick, so this cannot loop
+            scheduleExpiry(key, entry);
+            return false;
+        }
+        map.remove(key);
+        evictionStrategy.recordRemoval(key);
+        size--;
+        stats.recordEviction(EvictionCause.EXPIRED);
+        return true;
+    }
+
+    /**
+     * Returns the current time in milliseconds from the clock, never earlier than a time
+     * returned before. A wall clock that steps backwards therefore only pauses expiry, and
+     * the timing wheel and the expiry checks always agree on the time.
+     */
+    private long now() {
+        long now = clock.getAsLong();
+        long last = lastTime.get();
+        while (now > last) {
+            if (lastTime.compareAndSet(last, now)) {
+                return now;
+            }
+            last = lastTime.get();
+        }
+        return last;
+    }
+
+    /**
+     * Tracks the entry's expiry time in the timing wheel. Entries that never expire are not tracked.
+     * Must be called with the write lock held.
+     */
+    private void scheduleExpiry(K key, CacheEntry<V> entry) {
+        if (entry.getExpiryTime() == Long.MAX_VALUE) {
+            timingWheel.deschedule(key);
+        } else {
+            timingWheel.schedule(key, entry.getExpiryTime());
+        }
+    }
+
     /**
      * Returns the current number of entries in the cache.
      * Note: This count may include expired entries (removed on lazy access).
@@ -268,8 +929,9 @@ public class TTLCache<K, V> {
     public int countValid() {
         lock.readLock().lock();
         try {
+            long now = now();
             return (int) map.values().stream()
-                    .filter(entry -> !entry.isExpired())
+                    .filter(entry -> !entry.isExpired(now))
                     .count();
         } finally {
             lock.readLock().unlock();
@@ -293,6 +955,7 @@ public class TTLCache<K, V> {
         try {
             map.clear();
             evictionStrategy.clear();
+            timingWheel.clear();
             size = 0;
         } finally {
             lock.writeLock().unlock();
@@ -309,25 +972,32 @@ public class TTLCache<K, V> {
     }
 
     /**
-     * Gets cache statistics.
+     * Gets cache statistics as a formatted string. See {@link #stats()} for a structured snapshot.
      * 
      * @return A string representation of cache stats
      */
     public String getStats() {
-        lock.readLock().lock();
-        try {
-            double hitRate = totalGets > 0 ? (double) cacheHits / totalGets * 100 : 0;
-            return String.format(
-                    "Stats{" +
-                    "totalPuts=%d, totalGets=%d, cacheHits=%d, cacheMisses=%d, " +
-                    "expirations=%d, hitRate=%.2f%%, size=%d/%d, strategy=%s" +
-                    "}",
-                    totalPuts, totalGets, cacheHits, cacheMisses,
-                    expirations, hitRate, size, capacity, getEvictionStrategyName()
-            );
-        } finally {
-            lock.readLock().unlock();
-        }
+        CacheStats snapshot = stats.snapshot();
+        return String.format(
+                "Stats{" +
+                "totalPuts=%d, totalGets=%d, cacheHits=%d, cacheMisses=%d, " +
+                "expirations=%d, hitRate=%.2f%%, size=%d/%d, strategy=%s" +
+                "}",
+                snapshot.putCount(), snapshot.requestCount(), snapshot.hitCount(), snapshot.missCount(),
+                snapshot.expirationCount(), snapshot.requestCount() > 0 ? snapshot.hitRate() * 100 : 0.0,
+                size(), capacity, getEvictionStrategyName()
+        );
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics: hits, misses, puts, loads, evictions and
+     * expirations. Recording uses striped counters, so statistics are always on and reading
+     * them never takes the lock.
+     * 
+     * @return An immutable snapshot of the statistics
+     */
+    public CacheStats stats() {
+        return stats.snapshot();
     }
 
     /**
@@ -340,10 +1010,11 @@ public class TTLCache<K, V> {
         lock.readLock().lock();
         try {
             CacheEntry<V> entry = map.get(key);
-            if (entry == null || entry.isExpired()) {
+            long now = now();
+            if (entry == null || entry.isExpired(now)) {
                 return 0;
             }
-            return entry.getRemainingTTL();
+            return entry.getRemainingTTL(now);
         } finally {
             lock.readLock().unlock();
         }
@@ -361,10 +1032,11 @@ public class TTLCache<K, V> {
                     .append(", entries=[");
             
             boolean first = true;
+            long now = now();
             for (Map.Entry<K, CacheEntry<V>> entry : map.entrySet()) {
                 if (!first) sb.append(", ");
                 sb.append(entry.getKey()).append("=").append(entry.getValue().getValue());
-                if (entry.getValue().isExpired()) {
+                if (entry.getValue().isExpired(now)) {
                     sb.append(" [EXPIRED]");
                 }
                 first = false;
@@ -0,0 +1,303 @@
+package com.smartload.lru;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel that tracks entry expiry times for {@link TTLCache}.
+ *
+ * Timers are hashed into buckets by their absolute expiry time. Each level is a ring of
+ * buckets whose span grows by a factor of 64 from one level to the next:
+ * <pre>
+ *   level 0: 64 buckets of 2^10 ms (~1 s)    - timers due within ~1 minute
+ *   level 1: 64 buckets of 2^16 ms (~65 s)   - timers due within ~70 minutes
+ *   level 2: 64 buckets of 2^22 ms (~70 min) - timers due within ~3 days
+ *   level 3: 64 buckets of 2^28 ms (~3 days) - timers due within ~6 months
+ *   overflow: a single bucket for everything further away
+ * </pre>
+ * {@link #advance(long)} only visits the buckets whose time range has been reached since the
+ * previous advance (plus the current bucket of each level). Expired timers move to a ready
+ * list that callers drain with {@link #pollExpired()}; timers that are not yet due cascade
+ * down into a finer level. The work done is therefore proportional to the number of timers
+ * that are expiring (or about to), not to the total number of timers.
+ *
+ * That work can still be large when many timers come due together, so an advance can also be
+ * done in steps with {@link #advance(long, int)}: it stops once a work budget is used up and
+ * the next call resumes at the same level, bucket and timer.
+ *
+ * Not thread-safe; callers are expected to hold the owning cache's lock.
+ *
+ * @param <K> Key type
+ */
+final class TimingWheel<K> {
+    private static final int BUCKETS_PER_LEVEL = 64;
+    private static final int BUCKET_MASK = BUCKETS_PER_LEVEL - 1;
+    private static final int[] SHIFTS = {10, 16, 22, 28};
+    private static final int OVERFLOW_SHIFT = 34;
+
+    /**
+     * A scheduled timer. Timers form circular doubly linked lists around a sentinel per bucket.
+     */
+    private static final class Timer<K> {
+        final K key;
+        final long expiryTime;
+        Timer<K> previous = this;
+        Timer<K> next = this;
+
+        Timer(K key, long expiryTime) {
+            this.key = key;
+            this.expiryTime = expiryTime;
+        }
+
+        void unlink() {
+            previous.next = next;
+            next.previous = previous;
+            previous = this;
+            next = this;
+        }
+
+        /** Appends the timer to the list whose sentinel is this node. */
+        void append(Timer<K> timer) {
+            timer.previous = previous;
+            timer.next = this;
+            previous.next = timer;
+            previous = timer;
+        }
+
+        boolean isEmpty() {
+            return next == this;
+        }
+    }
+
+    private final Timer<K>[][] wheel;
+    private final Timer<K> overflow = new Timer<>(null, 0);
+    private final Timer<K> ready = new Timer<>(null, 0);
+    /** Timers detached from the bucket being expired, not yet placed again. */
+    private final Timer<K> cascading = new Timer<>(null, 0);
+    private final Map<K, Timer<K>> timers = new HashMap<>();
+    private long currentTime;
+
+    // Cursor of an advance in progress: the level (SHIFTS.length for the overflow bucket)
+    // and the range of ticks still to visit at that level
+    private boolean advancing;
+    private long previousTime;
+    private int cursorLevel;
+    private long cursorTicks;
+    private long cursorEndTicks;
+
+    /**
+     * Creates an empty wheel positioned at the given time.
+     *
+     * @param now The current time in milliseconds
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheel(long now) {
+        this.wheel = (Timer<K>[][]) new Timer<?>[SHIFTS.length][BUCKETS_PER_LEVEL];
+        for (Timer<K>[] level : wheel) {
+            for (int i = 0; i < level.length; i++) {
+                level[i] = new Timer<>(null, 0);
+            }
+        }
+        this.currentTime = now;
+    }
+
+    /**
+     * Schedules (or reschedules) the key to expire at the given time.
+     *
+     * @param key The key
+     * @param expiryTime Absolute expiry time in milliseconds, as in {@link CacheEntry#getExpiryTime()}
+     */
+    void schedule(K key, long expiryTime) {
+        deschedule(key);
+        Timer<K> timer = new Timer<>(key, expiryTime);
+        timers.put(key, timer);
+        if (expiryTime < currentTime) {
+            // Already due: defer it to the next tick rather than the ready list, so a caller
+            // draining the ready list never gets the same timer back in the same drain
+            long nextTick = (currentTime >>> SHIFTS[0]) + 1;
+            wheel[0][(int) (nextTick & BUCKET_MASK)].append(timer);
+        } else {
+            place(timer);
+        }
+    }
+
+    /**
+     * Cancels the timer for the key, if any.
+     *
+     * @param key The key
+     */
+    void deschedule(K key) {
+        Timer<K> timer = timers.remove(key);
+        if (timer != null) {
+            timer.unlink();
+        }
+    }
+
+    /**
+     * Advances the wheel to the given time, moving every timer that has expired onto the
+     * ready list. The wheel's time never goes backwards: an earlier time is treated as the
+     * current one.
+     *
+     * @param now The current time in milliseconds
+     */
+    void advance(long now) {
+        advance(now, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Advances the wheel towards the given time, doing at most the given amount of work: each
+     * bucket visited and each timer moved costs one unit. An advance that runs out of budget
+     * is resumed by the next call, which first finishes it before starting towards a later
+     * time. Timers that are found to be due are on the ready list right away.
+     *
+     * @param now The current time in milliseconds
+     * @param budget The maximum number of buckets and timers to process (must be > 0)
+     * @return true if the wheel has caught up with now, false if more calls are needed
+     */
+    boolean advance(long now, int budget) {
+        while (true) {
+            if (!advancing) {
+                if (now <= currentTime) {
+                    // Nothing new can be due: schedule() defers timers that are already due
+                    return true;
+                }
+                previousTime = currentTime;
+                currentTime = now;
+                advancing = true;
+                startLevel(0);
+            }
+            while (advancing && budget > 0) {
+                budget--;
+                if (!cascading.isEmpty()) {
+                    Timer<K> timer = cascading.next;
+                    timer.unlink();
+                    place(timer);
+                } else if (cursorLevel < SHIFTS.length) {
+                    if (cursorTicks > cursorEndTicks) {
+                        startLevel(cursorLevel + 1);
+                    } else {
+                        detach(wheel[cursorLevel][(int) (cursorTicks++ & BUCKET_MASK)]);
+                    }
+                } else if (cursorLevel == SHIFTS.length) {
+                    if ((currentTime >>> OVERFLOW_SHIFT) != (previousTime >>> OVERFLOW_SHIFT)) {
+                        detach(overflow);
+                    }
+                    cursorLevel++;
+                } else {
+                    // Every bucket visited and every detached timer placed again
+                    advancing = false;
+                }
+            }
+            if (advancing) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the key of one expired timer.
+     *
+     * @return A key whose timer has expired, or null if none are ready
+     */
+    K pollExpired() {
+        if (ready.isEmpty()) {
+            return null;
+        }
+        Timer<K> timer = ready.next;
+        timer.unlink();
+        timers.remove(timer.key);
+        return timer.key;
+    }
+
+    /**
+     * Returns whether expired timers are waiting to be polled.
+     */
+    boolean hasExpired() {
+        return !ready.isEmpty();
+    }
+
+    /**
+     * Returns the number of scheduled timers (including expired ones not yet polled).
+     */
+    int size() {
+        return timers.size();
+    }
+
+    /**
+     * Cancels all timers.
+     */
+    void clear() {
+        for (Timer<K>[] level : wheel) {
+            for (Timer<K> bucket : level) {
+                bucket.next = bucket;
+                bucket.previous = bucket;
+            }
+        }
+        overflow.next = overflow;
+        overflow.previous = overflow;
+        ready.next = ready;
+        ready.previous = ready;
+        cascading.next = cascading;
+        cascading.previous = cascading;
+        advancing = false;
+        timers.clear();
+    }
+
+    /**
+     * Positions the cursor at the buckets of the level passed since the previous advance,
+     * including the current one.
+     */
+    private void startLevel(int level) {
+        cursorLevel = level;
+        if (level < SHIFTS.length) {
+            long previousTicks = previousTime >>> SHIFTS[level];
+            long currentTicks = currentTime >>> SHIFTS[level];
+            long count = Math.min(currentTicks - previousTicks + 1, BUCKETS_PER_LEVEL);
+            cursorTicks = currentTicks - count + 1;
+            cursorEndTicks = currentTicks;
+        }
+    }
+
+    /**
+     * Moves all timers of the bucket onto the cascading list, from which they are marked
+     * ready or rescheduled relative to the current time. Detaching first guarantees a timer
+     * that lands back in the same bucket is not visited twice in one pass, and keeps every
+     * timer on a list that deschedule() can unlink it from.
+     */
+    private void detach(Timer<K> sentinel) {
+        if (sentinel.isEmpty()) {
+            return;
+        }
+        Timer<K> first = sentinel.next;
+        Timer<K> last = sentinel.previous;
+        sentinel.next = sentinel;
+        sentinel.previous = sentinel;
+
+        first.previous = cascading.previous;
+        cascading.previous.next = first;
+        last.next = cascading;
+        cascading.previous = last;
+    }
+
+    /**
+     * Puts the timer on the ready list if it has expired, otherwise into the finest level
+     * whose range covers its remaining delay.
+     */
+    private void place(Timer<K> timer) {
+        // Matches CacheEntry.isExpired(): an entry expires once the clock is past its expiry time
+        if (timer.expiryTime < currentTime) {
+            ready.append(timer);
+            return;
+        }
+        long delay = timer.expiryTime - currentTime;
+        for (int level = 0; level < SHIFTS.length; level++) {
+            int nextShift = (level + 1 < SHIFTS.length) ? SHIFTS[level + 1] : OVERFLOW_SHIFT;
+            if (delay < (1L << nextShift)) {
+                int index = (int) ((timer.expiryTime >>> SHIFTS[level]) & BUCKET_MASK);
+                wheel[level][index].append(timer);
+                return;
+            }
+        }
+        overflow.append(timer);
+    }
+}
@@ -0,0 +1,158 @@
+package com.smartload.lru;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+
+/**
+ * 2Q eviction strategy implementation (the "full" version of the algorithm).
+ *
+ * Keeps first-time entries away from the entries that have proven to be reused:
+ * - A1in is a FIFO queue (25% of the capacity) for new entries; hits there do not move them
+ * - A1out is a ghost queue: the keys (never the values) of entries evicted from A1in,
+ *   bounded by half the capacity
+ * - Am is an LRU list for entries requested again after leaving A1in: a key inserted while
+ *   in A1out goes straight into Am
+ * - The victim is the oldest entry of A1in while A1in is over its share, otherwise the LRU
+ *   entry of Am
+ *
+ * A scan of one-time keys only cycles through A1in, and a burst of hits right after an
+ * insertion (which is not a sign of long-term reuse) does not promote the entry.
+ *
+ * Because the queue sizes derive from the cache capacity, the strategy must be created
+ * with the same capacity as the cache it is plugged into:
+ * <pre>
+ *   Cache<String, String> cache = new Cache<>(1000, new TwoQueueEvictionStrategy<>(1000));
+ * </pre>
+ *
+ * Time Complexity:
+ * - recordAccess: O(1)
+ * - recordInsertion: O(1)
+ * - recordRemoval: O(1)
+ * - selectEvictionCandidate: O(1)
+ */
+public class TwoQueueEvictionStrategy<K, V> implements EvictionStrategy<K, V> {
+
+    private final int inMaximum;
+    private final int outMaximum;
+
+    /** Iteration order of each queue is eviction order: the first key goes first. */
+    private final LinkedHashSet<K> in = new LinkedHashSet<>();
+    private final LinkedHashSet<K> out = new LinkedHashSet<>();
+    private final LinkedHashSet<K> main = new LinkedHashSet<>();
+
+    /** The most recently inserted key, which must not be its own eviction victim. */
+    private K lastInserted;
+    /** The key returned by the last selectEvictionCandidate(); its removal from A1in makes it a ghost. */
+    private K pendingVictim;
+
+    /**
+     * Creates a 2Q strategy for a cache of the given capacity.
+     *
+     * @param maximumSize The capacity of the cache this strategy is used with (must be > 0)
+     * @throws IllegalArgumentException if maximumSize <= 0
+     */
+    public TwoQueueEvictionStrategy(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be > 0");
+        }
+        this.inMaximum = Math.max(1, maximumSize / 4);
+        this.outMaximum = Math.max(1, maximumSize / 2);
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        // Hits in A1in are correlated references and leave it in place
+        if (main.remove(key)) {
+            main.add(key);
+        }
+    }
+
+    @Override
+    public void recordInsertion(K key) {
+        if (in.contains(key) || main.contains(key)) {
+            recordAccess(key);
+            return;
+        }
+        if (out.remove(key)) {
+            // Requested again after leaving A1in: it is reused
+            main.add(key);
+        } else {
+            in.add(key);
+        }
+        lastInserted = key;
+    }
+
+    @Override
+    public void recordRemoval(K key) {
+        boolean evicted = Objects.equals(key, pendingVictim);
+        if (evicted) {
+            pendingVictim = null;
+        }
+        if (Objects.equals(key, lastInserted)) {
+            lastInserted = null;
+        }
+        // Keys evicted from A1in are remembered in A1out; explicitly removed keys are forgotten
+        if (in.remove(key)) {
+            if (evicted) {
+                out.add(key);
+                if (out.size() > outMaximum) {
+                    removeFirst(out);
+                }
+            }
+        } else if (!main.remove(key)) {
+            out.remove(key);
+        }
+    }
+
+    @Override
+    public K selectEvictionCandidate() {
+        // The key just inserted is the newest of its queue, so it is only chosen if it is alone
+        int inSize = in.size();
+        int mainSize = main.size();
+        if (lastInserted != null) {
+            if (in.contains(lastInserted)) {
+                inSize--;
+            } else {
+                mainSize--;
+            }
+        }
+        K victim;
+        if (inSize > 0 && (inSize >= inMaximum || mainSize == 0)) {
+            victim = first(in);
+        } else if (mainSize > 0) {
+            victim = first(main);
+        } else {
+            victim = (lastInserted != null) ? lastInserted : first(in);
+        }
+        pendingVictim = victim;
+        return victim;
+    }
+
+    @Override
+    public void clear() {
+        in.clear();
+        out.clear();
+        main.clear();
+        lastInserted = null;
+        pendingVictim = null;
+    }
+
+    /** Returns the number of ghost keys in A1out. */
+    int ghostCount() {
+        return out.size();
+    }
+
+    private static <K> K first(LinkedHashSet<K> queue) {
+        Iterator<K> iterator = queue.iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private static <K> void removeFirst(LinkedHashSet<K> queue) {
+        Iterator<K> iterator = queue.iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.smartload.lru;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+
+/**
+ * Window TinyLFU eviction strategy implementation.
+ *
+ * Combines recency and frequency so that neither scans nor stale popularity can take over
+ * the cache:
+ * - New entries land in a small LRU "window" (1% of the capacity), which absorbs bursts
+ * - Entries pushed out of the window enter the main space, a segmented LRU made of a
+ *   probation segment and a protected segment (80% of the main space). A hit in probation
+ *   promotes the entry to protected; protected overflow is demoted back to probation
+ * - When the cache is full, the newest arrival from the window (the admission candidate)
+ *   competes with the least recently used probation entry (the victim). A 4-bit Count-Min
+ *   {@link FrequencySketch} estimates both frequencies, and only a candidate that is seen
+ *   more often than the victim is admitted. The sketch periodically halves its counters,
+ *   so old hot keys are eventually forgotten
+ *
+ * Because the segment sizes derive from the cache capacity, the strategy must be created
+ * with the same capacity as the cache it is plugged into:
+ * <pre>
+ *   Cache<String, String> cache = new Cache<>(1000, new WTinyLFUEvictionStrategy<>(1000));
+ * </pre>
+ *
+ * Time Complexity:
+ * - recordAccess: O(1)
+ * - recordInsertion: O(1)
+ * - recordRemoval: O(1)
+ * - selectEvictionCandidate: O(1)
+ */
+public class WTinyLFUEvictionStrategy<K, V> implements EvictionStrategy<K, V> {
+
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final FrequencySketch<K> sketch;
+
+    /** Iteration order of each segment is LRU order: the first key is the least recently used. */
+    private final LinkedHashSet<K> window = new LinkedHashSet<>();
+    private final LinkedHashSet<K> probation = new LinkedHashSet<>();
+    private final LinkedHashSet<K> protectedSegment = new LinkedHashSet<>();
+
+    /** The key most recently moved from the window into probation, if it is still there. */
+    private K admissionCandidate;
+
+    /**
+     * Creates a W-TinyLFU strategy for a cache of the given capacity.
+     *
+     * @param maximumSize The capacity of the cache this strategy is used with (must be > 0)
+     * @throws IllegalArgumentException if maximumSize <= 0
+     */
+    public WTinyLFUEvictionStrategy(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be > 0");
+        }
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        int mainMaximum = Math.max(1, maximumSize - windowMaximum);
+        this.protectedMaximum = Math.max(1, (int) (mainMaximum * 0.8));
+        this.sketch = new FrequencySketch<>(maximumSize);
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        if (window.remove(key)) {
+            sketch.increment(key);
+            window.add(key);
+        } else if (probation.remove(key)) {
+            sketch.increment(key);
+            if (Objects.equals(key, admissionCandidate)) {
+                admissionCandidate = null;
+            }
+            promoteToProtected(key);
+        } else if (protectedSegment.remove(key)) {
+            sketch.increment(key);
+            protectedSegment.add(key);
+        }
+    }
+
+    @Override
+    public void recordInsertion(K key) {
+        recordRemoval(key);
+        sketch.increment(key);
+        window.add(key);
+
+        // Window overflow moves its LRU entry into probation, where it becomes the admission candidate
+        if (window.size() > windowMaximum) {
+            K demoted = removeFirst(window);
+            probation.add(demoted);
+            admissionCandidate = demoted;
+        }
+    }
+
+    @Override
+    public void recordRemoval(K key) {
+        if (!window.remove(key) && !probation.remove(key)) {
+            protectedSegment.remove(key);
+        }
+        if (Objects.equals(key, admissionCandidate)) {
+            admissionCandidate = null;
+        }
+    }
+
+    @Override
+    public K selectEvictionCandidate() {
+        K victim = first(probation);
+        if (victim == null) {
+            victim = first(protectedSegment);
+        }
+        if (victim == null) {
+            return first(window);
+        }
+
+        K candidate = admissionCandidate;
+        if (candidate == null || Objects.equals(candidate, victim)) {
+            return victim;
+        }
+
+        // TinyLFU admission: the candidate only replaces the victim if it is used more often
+        if (sketch.frequency(candidate) > sketch.frequency(victim)) {
+            admissionCandidate = null;
+            return victim;
+        }
+        return candidate;
+    }
+
+    @Override
+    public void clear() {
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        sketch.clear();
+        admissionCandidate = null;
+    }
+
+    private void promoteToProtected(K key) {
+        protectedSegment.add(key);
+        if (protectedSegment.size() > protectedMaximum) {
+            probation.add(removeFirst(protectedSegment));
+        }
+    }
+
+    private static <K> K first(LinkedHashSet<K> segment) {
+        Iterator<K> iterator = segment.iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private static <K> K removeFirst(LinkedHashSet<K> segment) {
+        Iterator<K> iterator = segment.iterator();
+        K key = iterator.next();
+        iterator.remove();
+        return key;
+    }
+}
@@ -0,0 +1,29 @@
+package com.smartload.lru;
+
+/**
+ * Calculates the weight of a cache entry, for caches bounded by total weight instead
+ * of entry count (e.g. the approximate size of the value in bytes).
+ *
+ * The weight is computed once, when the entry is inserted or updated, and must not
+ * change while the entry is in the cache.
+ *
+ * <pre>
+ *   Cache<String, byte[]> cache = new Cache<>(64 * 1024 * 1024,
+ *           (key, value) -> value.length, new LRUEvictionStrategy<>());
+ * </pre>
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    /**
+     * Returns the weight of the entry.
+     *
+     * @param key The key
+     * @param value The value
+     * @return The weight (must be >= 0)
+     */
+    int weigh(K key, V value);
+}
@@ -0,0 +1,373 @@
+package com.smartload.lru;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Queue of dirty cache entries that a background thread flushes to a {@link CacheWriter}
+ * in batches. Created by {@link Cache#enableWriteBehind}.
+ *
+ * Changes are coalesced per key: repeated puts of a key that hasn't been flushed yet
+ * replace its queued value, and a remove replaces a queued put (and vice versa), so the
+ * writer only ever sees the latest change. A batch is flushed when batchSize keys are
+ * dirty, when the oldest dirty key has waited maxDelay, or on {@link #flush()}.
+ *
+ * Back-pressure: once maxPending keys are dirty, puts and removes of the cache block
+ * until the flusher has taken a batch. Changes to keys that are already dirty never
+ * block, since they don't grow the queue. A blocked writer gives up with an
+ * IllegalStateException, without changing the cache, if it is interrupted, if the flusher
+ * thread has stopped, or if the flusher has made no progress for ten times maxDelay (at
+ * least one second), e.g. because the CacheWriter hangs. Bulk operations check for
+ * capacity once per call, so putAll and removeAll can take the queue past maxPending by
+ * up to the number of keys they change.
+ *
+ * A failed batch is put back (keys changed in the meantime keep their newer change) and
+ * retried after maxDelay. After {@link #close()}, the remaining changes are flushed
+ * once and failed batches are dropped.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public final class WriteBehindQueue<K, V> {
+    private static final Object DELETED = new Object();
+    private static final long MIN_STALL_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final CacheWriter<K, V> writer;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final int maxPending;
+    private final long stallTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition flushNeeded = lock.newCondition();
+    private final Condition idle = lock.newCondition();
+    // Key -> latest value, or DELETED; in the order keys became dirty
+    private final LinkedHashMap<K, Object> dirty = new LinkedHashMap<>();
+    private long oldestDirtyNanos;
+    private boolean flushRequested;
+    private boolean writing;
+    private boolean closed;
+    private boolean stopped;
+    /** When the flusher last took or finished a batch. */
+    private long lastProgressNanos;
+    private long writeCount;
+    private long batchCount;
+    private long failureCount;
+    private volatile Throwable lastFailure;
+    private final Thread flusher;
+
+    WriteBehindQueue(CacheWriter<K, V> writer, int batchSize, long maxDelay, TimeUnit unit, int maxPending) {
+        if (writer == null) {
+            throw new NullPointerException("Writer cannot be null");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be > 0");
+        }
+        if (maxDelay <= 0) {
+            throw new IllegalArgumentException("Maximum delay must be > 0");
+        }
+        if (maxPending < batchSize) {
+            throw new IllegalArgumentException("Maximum pending writes must be >= batch size");
+        }
+        this.writer = writer;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+        this.maxPending = maxPending;
+        this.stallTimeoutNanos = Math.max(MIN_STALL_TIMEOUT_NANOS, maxDelayNanos * 10);
+        this.lastProgressNanos = System.nanoTime();
+        this.flusher = new Thread(this::run, "Cache-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Blocks while the queue is full. Called before taking the cache lock, so a blocked
+     * writer never holds up readers.
+     *
+     * @throws IllegalStateException if interrupted, or if the flusher has stopped or stalled
+     */
+    void awaitCapacity() {
+        lock.lock();
+        try {
+            while (dirty.size() >= maxPending && !closed) {
+                if (stopped) {
+                    throw new IllegalStateException("Write-behind flusher is not running");
+                }
+                long stalled = System.nanoTime() - lastProgressNanos;
+                if (stalled >= stallTimeoutNanos) {
+                    throw new IllegalStateException("Write-behind queue is full and the writer made no progress for "
+                            + TimeUnit.NANOSECONDS.toMillis(stalled) + " ms");
+                }
+                notFull.awaitNanos(Math.min(maxDelayNanos, stallTimeoutNanos - stalled));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for write-behind capacity", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Queues a put of the key. */
+    void write(K key, V value) {
+        enqueue(key, value);
+    }
+
+    /** Queues a removal of the key. */
+    void delete(K key) {
+        enqueue(key, DELETED);
+    }
+
+    private void enqueue(K key, Object change) {
+        lock.lock();
+        try {
+            if (dirty.isEmpty()) {
+                oldestDirtyNanos = System.nanoTime();
+                flushNeeded.signal(); // start the delay timer
+            }
+            dirty.put(key, change);
+            if (dirty.size() >= batchSize) {
+                flushNeeded.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes all queued changes now and waits until they are written.
+     *
+     * @return true if everything was written, false if a batch failed (it will be retried)
+     */
+    public boolean flush() {
+        lock.lock();
+        try {
+            long failuresBefore = failureCount;
+            flushRequested = true;
+            flushNeeded.signal();
+            while ((writing || !dirty.isEmpty()) && failureCount == failuresBefore && flusher.isAlive()) {
+                idle.awaitUninterruptibly();
+            }
+            return failureCount == failuresBefore;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of dirty keys waiting to be written.
+     *
+     * @return The number of queued changes
+     */
+    public int pendingCount() {
+        lock.lock();
+        try {
+            return dirty.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of changes (writes and deletes) passed to the writer successfully.
+     *
+     * @return The number of changes written
+     */
+    public long writeCount() {
+        lock.lock();
+        try {
+            return writeCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of batches written successfully.
+     *
+     * @return The number of batches
+     */
+    public long batchCount() {
+        lock.lock();
+        try {
+            return batchCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of batches for which the writer threw.
+     *
+     * @return The number of failed batches
+     */
+    public long failureCount() {
+        lock.lock();
+        try {
+            return failureCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the exception of the most recent failed batch.
+     *
+     * @return The last failure, or null if no batch has failed
+     */
+    public Throwable lastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * Flushes the remaining changes and stops the background thread.
+     * Called by {@link Cache#shutdownWriteBehind()}.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            flushNeeded.signal();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        boolean interrupted = false;
+        while (flusher.isAlive()) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        lock.lock();
+        try {
+            while (true) {
+                awaitBatch();
+                if (dirty.isEmpty()) {
+                    if (closed) {
+                        return;
+                    }
+                    continue;
+                }
+                Map<K, Object> batch = takeBatch();
+                writing = true;
+                Throwable failure;
+                lock.unlock();
+                try {
+                    failure = writeBatch(batch);
+                } finally {
+                    lock.lock();
+                    writing = false;
+                    lastProgressNanos = System.nanoTime();
+                }
+                if (failure != null) {
+                    failureCount++;
+                    lastFailure = failure;
+                    if (!closed) {
+                        requeue(batch);
+                        idle.signalAll();
+                        // Back off before retrying
+                        flushNeeded.awaitNanos(maxDelayNanos);
+                    }
+                } else {
+                    batchCount++;
+                    writeCount += batch.size();
+                }
+                if (dirty.isEmpty()) {
+                    flushRequested = false;
+                    idle.signalAll();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stopped = true;
+            idle.signalAll();
+            notFull.signalAll();
+            lock.unlock();
+        }
+    }
+
+    /** Waits until a batch is due: enough dirty keys, the oldest one is old enough, or a flush. */
+    private void awaitBatch() throws InterruptedException {
+        while (!closed && !flushRequested && dirty.size() < batchSize) {
+            if (dirty.isEmpty()) {
+                flushNeeded.await();
+            } else {
+                long remaining = maxDelayNanos - (System.nanoTime() - oldestDirtyNanos);
+                if (remaining <= 0) {
+                    return;
+                }
+                flushNeeded.awaitNanos(remaining);
+            }
+        }
+    }
+
+    /** Removes up to batchSize of the oldest dirty keys from the queue. */
+    private Map<K, Object> takeBatch() {
+        Map<K, Object> batch = new LinkedHashMap<>();
+        Iterator<Map.Entry<K, Object>> iterator = dirty.entrySet().iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            Map.Entry<K, Object> entry = iterator.next();
+            batch.put(entry.getKey(), entry.getValue());
+            iterator.remove();
+        }
+        // The keys left behind are at least as old as the ones taken, so they stay due
+        lastProgressNanos = System.nanoTime();
+        notFull.signalAll();
+        return batch;
+    }
+
+    /** Puts a failed batch back, unless a key was changed again while it was being written. */
+    private void requeue(Map<K, Object> batch) {
+        if (dirty.isEmpty()) {
+            oldestDirtyNanos = System.nanoTime();
+        }
+        for (Map.Entry<K, Object> entry : batch.entrySet()) {
+            dirty.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Passes the batch to the writer. Runs without the queue lock.
+     *
+     * @return The exception thrown by the writer, or null on success
+     */
+    @SuppressWarnings("unchecked")
+    private Throwable writeBatch(Map<K, Object> batch) {
+        Map<K, V> writes = new LinkedHashMap<>();
+        List<K> deletes = new ArrayList<>();
+        for (Map.Entry<K, Object> entry : batch.entrySet()) {
+            if (entry.getValue() == DELETED) {
+                deletes.add(entry.getKey());
+            } else {
+                writes.put(entry.getKey(), (V) entry.getValue());
+            }
+        }
+        try {
+            if (!writes.isEmpty()) {
+                writer.writeAll(writes);
+            }
+            if (!deletes.isEmpty()) {
+                writer.deleteAll(deletes);
+            }
+            return null;
+        } catch (Throwable t) {
+            return t;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.smartload.lru;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for AsyncCache - cache of CompletableFuture values loaded on an executor.
+ */
+@DisplayName("Async Cache")
+public class AsyncCacheTest {
+
+    @Test
+    @DisplayName("Async: Concurrent misses share one load; pending loads don't count toward size")
+    void testSharedLoad() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncCache<String, String> cache = new AsyncCache<>(10, new LRUEvictionStrategy<>(), executor);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger loads = new AtomicInteger(0);
+            CacheLoader<String, String> loader = key -> {
+                loads.incrementAndGet();
+                release.await();
+                return key.toUpperCase();
+            };
+
+            CompletableFuture<String> first = cache.get("a", loader);
+            CompletableFuture<String> second = cache.get("a", loader);
+            assertSame(first, second);
+            assertEquals(0, cache.size());
+            assertEquals(1, cache.pendingCount());
+
+            release.countDown();
+            assertEquals("A", first.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+            // The future moves into the cache in a completion callback, which may run after get() returns
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (cache.pendingCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(1, cache.size());
+            assertEquals(0, cache.pendingCount());
+            assertSame(first, cache.getIfPresent("a"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Async: Failed futures are removed automatically")
+    void testFailedLoadRemoved() {
+        AsyncCache<String, String> cache = new AsyncCache<>(10, new LRUEvictionStrategy<>(), Runnable::run);
+        CompletableFuture<String> failed = cache.get("a", key -> {
+            throw new IllegalStateException("backend down");
+        });
+        ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertNull(cache.getIfPresent("a"));
+        assertEquals(0, cache.pendingCount());
+
+        // The next get starts a new load
+        assertEquals("ok", cache.get("a", key -> "ok").join());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Async: Completed values are evicted by weight; removed loads are not cached")
+    void testWeightAndRemove() {
+        AsyncCache<String, String> cache = new AsyncCache<>(6, (key, value) -> value.length(),
+                new FIFOEvictionStrategy<>(), Runnable::run);
+        cache.get("a", key -> "aaa");
+        cache.get("b", key -> "bbb");
+        assertEquals(6, cache.weightedSize());
+        cache.get("c", key -> "cc");
+        assertNull(cache.getIfPresent("a"));
+        assertEquals(5, cache.weightedSize());
+
+        CompletableFuture<String> manual = new CompletableFuture<>();
+        cache.put("d", manual);
+        assertSame(manual, cache.getIfPresent("d"));
+        assertSame(manual, cache.remove("d"));
+        manual.complete("d");
+        assertNull(cache.getIfPresent("d"));
+        assertEquals(2, cache.size());
+    }
+}
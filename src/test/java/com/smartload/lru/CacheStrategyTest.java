@@ -153,6 +153,832 @@ public class CacheStrategyTest {
         assertEquals(4, cache.get(4));
     }
 
+    // ========== CONSTANT-TIME LFU STRATEGY TESTS ==========
+
+    @Test
+    @DisplayName("O(1) LFU: Evicts least frequently used entry")
+    void testConstantTimeLFUFrequencyTracking() {
+        Cache<Integer, Integer> cache = new Cache<>(3, new ConstantTimeLFUEvictionStrategy<>());
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.put(3, 3);
+
+        cache.get(1);
+        cache.get(1);
+        cache.get(1);
+        cache.get(2);
+        cache.get(2);
+
+        cache.put(4, 4);
+        // Key 3 should be evicted (least frequently used)
+        assertEquals(-1, cache.get(3));
+        assertEquals(1, cache.get(1));
+        assertEquals(2, cache.get(2));
+        assertEquals(4, cache.get(4));
+    }
+
+    @Test
+    @DisplayName("O(1) LFU: Ties broken by least recent access, like LFUEvictionStrategy")
+    void testConstantTimeLFUTieBreaking() {
+        EvictionStrategy<Integer, Integer> strategy = new ConstantTimeLFUEvictionStrategy<>();
+        strategy.recordInsertion(1);
+        strategy.recordInsertion(2);
+        strategy.recordInsertion(3);
+        // All at frequency 1: the oldest insertion is evicted first
+        assertEquals(1, strategy.selectEvictionCandidate());
+
+        // Raise 1 and 2 to frequency 2; 2 was accessed after 1
+        strategy.recordAccess(1);
+        strategy.recordAccess(2);
+        strategy.recordRemoval(3);
+        assertEquals(1, strategy.selectEvictionCandidate());
+
+        // Touch 1 again: now 2 has the lower frequency
+        strategy.recordAccess(1);
+        assertEquals(2, strategy.selectEvictionCandidate());
+
+        // Re-inserting a key resets its frequency
+        strategy.recordInsertion(1);
+        assertEquals(1, strategy.selectEvictionCandidate());
+
+        // Accesses to untracked keys are ignored
+        strategy.recordAccess(99);
+        strategy.recordRemoval(1);
+        strategy.recordRemoval(2);
+        assertNull(strategy.selectEvictionCandidate());
+    }
+
+    // ========== W-TINYLFU STRATEGY TESTS ==========
+
+    /**
+     * Fills a cache of capacity 100 with the hot keys 0-49 and reads each of them the given
+     * number of times.
+     */
+    private static void warmUp(Cache<Integer, Integer> cache, int reads) {
+        for (int key = 0; key < 50; key++) {
+            cache.put(key, key);
+        }
+        for (int round = 0; round < reads; round++) {
+            for (int key = 0; key < 50; key++) {
+                cache.get(key);
+            }
+        }
+    }
+
+    /**
+     * Runs a scan of 500 one-time keys through a cache warmed with {@link #warmUp} and
+     * asserts that it stays full and keeps every hot key.
+     */
+    private static void assertSurvivesScan(Cache<Integer, Integer> cache) {
+        for (int key = 1000; key < 1500; key++) {
+            cache.put(key, key);
+        }
+        assertEquals(100, cache.size());
+        for (int key = 0; key < 50; key++) {
+            assertTrue(cache.containsKey(key), "Hot key " + key + " should be retained");
+        }
+    }
+
+    @Test
+    @DisplayName("W-TinyLFU: Hot entries survive a scan")
+    void testWTinyLFUScanResistance() {
+        Cache<Integer, Integer> cache = new Cache<>(100, new WTinyLFUEvictionStrategy<>(100));
+        warmUp(cache, 5);
+        // One-hit wonders must not flush the frequently used keys
+        assertSurvivesScan(cache);
+    }
+
+    @Test
+    @DisplayName("W-TinyLFU: Works with TTLCache and small capacities")
+    void testWTinyLFUWithTTLCache() {
+        TTLCache<Integer, Integer> cache = new TTLCache<>(2, new WTinyLFUEvictionStrategy<>(2));
+        cache.put(1, 1);
+        cache.get(1);
+        cache.get(1);
+        cache.put(2, 2);
+        cache.put(3, 3);
+        assertEquals(2, cache.size());
+        // Key 1 is the most frequently used and should be kept
+        assertEquals(1, cache.get(1));
+        assertThrows(IllegalArgumentException.class, () -> new WTinyLFUEvictionStrategy<Integer, Integer>(0));
+    }
+
+    // ========== ARC STRATEGY TESTS ==========
+
+    @Test
+    @DisplayName("ARC: Entries used twice survive a scan, which leaves the target alone")
+    void testARCScanResistance() {
+        ARCEvictionStrategy<Integer, Integer> strategy = new ARCEvictionStrategy<>(100);
+        Cache<Integer, Integer> cache = new Cache<>(100, strategy);
+        warmUp(cache, 1); // Moves the hot keys to T2
+
+        // A scan of one-time keys only cycles through T1
+        assertSurvivesScan(cache);
+        assertEquals(2, strategy.frequency(0));
+        assertEquals(1, strategy.frequency(1499));
+        // Scan keys are never seen again, so no ghost hit moves the target towards T1
+        assertEquals(0, strategy.target());
+        assertEquals(50, strategy.ghostCount()); // T1 and B1 together hold at most the capacity
+    }
+
+    @Test
+    @DisplayName("ARC: Ghost hits adapt the target and ghost lists stay bounded")
+    void testARCGhostLists() {
+        ARCEvictionStrategy<Integer, Integer> strategy = new ARCEvictionStrategy<>(4);
+        Cache<Integer, Integer> cache = new Cache<>(4, strategy);
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.get(1); // T2 = {1}, T1 = {2}
+        for (int key = 3; key <= 5; key++) {
+            cache.put(key, key); // Key 5 evicts key 2 from T1 into B1
+        }
+        assertFalse(cache.containsKey(2));
+        assertEquals(1, strategy.ghostCount());
+
+        cache.put(2, 2); // Ghost hit in B1: T1 was too small
+        assertEquals(1, strategy.target());
+        assertEquals(2, strategy.frequency(2)); // Re-inserted straight into T2
+
+        // A loop slightly larger than the cache never grows the ghost lists past the capacity
+        for (int round = 0; round < 20; round++) {
+            for (int key = 0; key < 6; key++) {
+                cache.put(key, key);
+                assertTrue(strategy.ghostCount() <= 4);
+            }
+        }
+        assertEquals(4, cache.size());
+
+        // Explicit removal does not create a ghost
+        cache.clear();
+        cache.put(7, 7);
+        cache.remove(7);
+        assertEquals(0, strategy.ghostCount());
+        assertThrows(IllegalArgumentException.class, () -> new ARCEvictionStrategy<Integer, Integer>(0));
+    }
+
+    // ========== SIEVE AND S3-FIFO STRATEGY TESTS ==========
+
+    @Test
+    @DisplayName("SIEVE: Visited entries stay, the hand evicts the next unvisited one")
+    void testSieveEviction() {
+        Cache<Integer, Integer> cache = new Cache<>(3, new SieveEvictionStrategy<>());
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.put(3, 3);
+        cache.get(1);
+
+        cache.put(4, 4); // Hand clears 1's visited bit and evicts 2
+        assertTrue(cache.containsKey(1));
+        assertFalse(cache.containsKey(2));
+
+        cache.put(5, 5); // Hand continues at 3
+        assertFalse(cache.containsKey(3));
+        cache.put(6, 6); // The hand doesn't restart at the oldest entry: 4 goes, 1 stays
+        assertFalse(cache.containsKey(4));
+        assertTrue(cache.containsKey(1));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    @DisplayName("S3-FIFO: Hit entries move to the main queue and survive a scan")
+    void testS3FIFOScanResistance() {
+        S3FIFOEvictionStrategy<Integer, Integer> strategy = new S3FIFOEvictionStrategy<>(100);
+        Cache<Integer, Integer> cache = new Cache<>(100, strategy);
+        warmUp(cache, 1);
+
+        // One-hit wonders are evicted from the small queue; the hot keys move to M
+        assertSurvivesScan(cache);
+        assertEquals(50, strategy.mainCount());
+        assertEquals(100, strategy.ghostCount()); // The last 100 keys evicted from S: 1350-1449
+
+        // A key requested again shortly after its eviction from S goes straight to M
+        cache.put(1400, 1400);
+        assertEquals(51, strategy.mainCount());
+        assertFalse(cache.containsKey(1450)); // Made room from S, and replaced 1400 in G
+        assertEquals(100, strategy.ghostCount());
+        for (int key = 2000; key < 2500; key++) {
+            cache.put(key, key);
+        }
+        assertTrue(cache.containsKey(1400), "Key inserted from the ghost queue should survive a scan");
+        assertThrows(IllegalArgumentException.class, () -> new S3FIFOEvictionStrategy<Integer, Integer>(0));
+    }
+
+    @Test
+    @DisplayName("SIEVE/S3-FIFO: Hits are recorded concurrently without the exclusive lock")
+    void testLockFreeAccessConcurrency() throws InterruptedException {
+        Cache<Integer, Integer> cache = new Cache<>(100, new S3FIFOEvictionStrategy<>(100));
+        ConcurrentCache<Integer, Integer> concurrent = new ConcurrentCache<>(100, new SieveEvictionStrategy<>());
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger errors = new AtomicInteger();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            executor.submit(() -> {
+                try {
+                    java.util.Random random = new java.util.Random(seed);
+                    for (int i = 0; i < 20_000; i++) {
+                        int key = random.nextInt(300);
+                        if (i % 4 == 0) {
+                            cache.put(key, key);
+                            concurrent.put(key, key);
+                        } else {
+                            cache.get(key);
+                            concurrent.get(key);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    errors.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertTrue(done.await(30, java.util.concurrent.TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(0, errors.get());
+        assertEquals(100, cache.size());
+        assertEquals(100, concurrent.size());
+    }
+
+    // ========== CLOCK STRATEGY TESTS ==========
+
+    @Test
+    @DisplayName("CLOCK: Referenced entries get a second chance")
+    void testClockSecondChance() {
+        Cache<Integer, Integer> cache = new Cache<>(3, new ClockEvictionStrategy<>(3));
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.put(3, 3);
+        cache.get(1);
+
+        cache.put(4, 4); // Hand clears 1's reference bit and evicts 2
+        assertTrue(cache.containsKey(1));
+        assertFalse(cache.containsKey(2));
+
+        cache.put(5, 5); // Hand continues at 3
+        assertFalse(cache.containsKey(3));
+        assertTrue(cache.containsKey(1));
+        assertTrue(cache.containsKey(4));
+        assertEquals(3, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new ClockEvictionStrategy<Integer, Integer>(0));
+    }
+
+    @Test
+    @DisplayName("CLOCK: The ring grows when it holds more entries than expected")
+    void testClockGrowth() {
+        ClockEvictionStrategy<Integer, Integer> strategy = new ClockEvictionStrategy<>(2);
+        for (int key = 0; key < 20; key++) {
+            strategy.recordInsertion(key);
+        }
+        for (int key = 0; key < 20; key += 2) {
+            strategy.recordRemoval(key);
+        }
+        strategy.recordAccess(1);
+
+        Integer victim = strategy.selectEvictionCandidate();
+        assertEquals(3, victim); // 1 was referenced
+        strategy.recordRemoval(victim);
+        strategy.clear();
+        assertNull(strategy.selectEvictionCandidate());
+    }
+
+    @Test
+    @DisplayName("CLOCK-Pro: Hot entries survive a scan and test entries adapt the cold share")
+    void testClockProScanResistance() {
+        ClockProEvictionStrategy<Integer, Integer> strategy = new ClockProEvictionStrategy<>(100);
+        Cache<Integer, Integer> cache = new Cache<>(100, strategy);
+        warmUp(cache, 1);
+
+        // The scan only cycles through the cold entries
+        assertSurvivesScan(cache);
+        assertEquals(50, strategy.hotCount());
+        assertTrue(strategy.testCount() <= 100);
+
+        // A key inserted again during its test period comes back hot and grows the cold share
+        int coldTarget = strategy.coldTarget();
+        cache.put(1420, 1420);
+        assertTrue(cache.containsKey(1420));
+        assertEquals(51, strategy.hotCount());
+        assertEquals(coldTarget + 1, strategy.coldTarget());
+        assertThrows(IllegalArgumentException.class, () -> new ClockProEvictionStrategy<Integer, Integer>(0));
+    }
+
+    // ========== LIRS STRATEGY TESTS ==========
+
+    @Test
+    @DisplayName("LIRS: A loop slightly larger than the cache keeps hitting the LIR entries")
+    void testLIRSLoopResistance() {
+        Cache<Integer, Integer> lirs = new Cache<>(100, new LIRSEvictionStrategy<>(100));
+        Cache<Integer, Integer> lru = new Cache<>(100, new LRUEvictionStrategy<>());
+        int lirsHits = 0;
+        int lruHits = 0;
+        for (int round = 0; round < 10; round++) {
+            for (int key = 0; key < 110; key++) {
+                if (lirs.getIfPresent(key) != null) {
+                    lirsHits++;
+                } else {
+                    lirs.put(key, key);
+                }
+                if (lru.getIfPresent(key) != null) {
+                    lruHits++;
+                } else {
+                    lru.put(key, key);
+                }
+            }
+        }
+        assertEquals(0, lruHits);
+        assertTrue(lirsHits > 800, "LIRS hits: " + lirsHits);
+        assertEquals(100, lirs.size());
+    }
+
+    @Test
+    @DisplayName("LIRS: A HIR entry reused within the stack becomes LIR, evicted keys are non-resident")
+    void testLIRSPromotion() {
+        LIRSEvictionStrategy<Integer, Integer> strategy = new LIRSEvictionStrategy<>(3);
+        Cache<Integer, Integer> cache = new Cache<>(3, strategy);
+        cache.put(1, 1);
+        cache.put(2, 2); // 1 and 2 are LIR
+        cache.put(3, 3); // HIR
+        assertEquals(2, strategy.lirCount());
+
+        cache.put(4, 4); // Evicts the HIR entry 3, which stays non-resident
+        assertFalse(cache.containsKey(3));
+        assertEquals(1, strategy.nonResidentCount());
+
+        cache.put(3, 3); // Becomes LIR and demotes the oldest LIR entry 1, evicting 4
+        assertFalse(cache.containsKey(4));
+        cache.get(2);
+        cache.put(5, 5); // 1 is now the oldest HIR entry
+        assertFalse(cache.containsKey(1));
+        assertTrue(cache.containsKey(2));
+        assertTrue(cache.containsKey(3));
+        assertEquals(2, strategy.lirCount());
+        assertThrows(IllegalArgumentException.class, () -> new LIRSEvictionStrategy<Integer, Integer>(0));
+    }
+
+    // ========== 2Q AND SLRU STRATEGY TESTS ==========
+
+    @Test
+    @DisplayName("2Q: Keys evicted from A1in and requested again go to Am and survive a scan")
+    void testTwoQueueScanResistance() {
+        TwoQueueEvictionStrategy<Integer, Integer> strategy = new TwoQueueEvictionStrategy<>(8);
+        Cache<Integer, Integer> cache = new Cache<>(8, strategy);
+        for (int key = 0; key < 8; key++) {
+            cache.put(key, key);
+        }
+        cache.get(0); // A hit in A1in does not promote
+
+        cache.put(8, 8); // A1in is over its share: its oldest entry 0 is evicted
+        assertFalse(cache.containsKey(0));
+        assertEquals(1, strategy.ghostCount());
+
+        cache.put(0, 0); // Remembered in A1out: goes to Am
+        for (int key = 100; key < 200; key++) {
+            cache.put(key, key);
+        }
+        assertTrue(cache.containsKey(0));
+        assertEquals(8, cache.size());
+        assertTrue(strategy.ghostCount() <= 4);
+        assertThrows(IllegalArgumentException.class, () -> new TwoQueueEvictionStrategy<Integer, Integer>(0));
+    }
+
+    @Test
+    @DisplayName("SLRU: Entries hit in probation are protected from one-hit wonders")
+    void testSLRUProtection() {
+        Cache<Integer, Integer> cache = new Cache<>(10, new SLRUEvictionStrategy<>(10, 0.5));
+        for (int key = 0; key < 10; key++) {
+            cache.put(key, key);
+        }
+        for (int key = 0; key < 6; key++) {
+            cache.get(key); // 0-4 are protected, then 5 demotes 0 back to probation
+        }
+
+        for (int key = 100; key < 200; key++) {
+            cache.put(key, key);
+        }
+        for (int key = 1; key < 6; key++) {
+            assertTrue(cache.containsKey(key), "Protected key " + key + " should be retained");
+        }
+        assertFalse(cache.containsKey(0));
+        assertEquals(10, cache.size());
+    }
+
+    @Test
+    @DisplayName("SLRU: The protected ratio must be between 0 and 1")
+    void testSLRUInvalidRatio() {
+        assertThrows(IllegalArgumentException.class, () -> new SLRUEvictionStrategy<Integer, Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new SLRUEvictionStrategy<Integer, Integer>(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SLRUEvictionStrategy<Integer, Integer>(10, 1.0));
+        assertDoesNotThrow(() -> new SLRUEvictionStrategy<Integer, Integer>(10, 0.2));
+    }
+
+    // ========== NODE-BASED STRATEGY TESTS ==========
+
+    @Test
+    @DisplayName("Node LRU: Same eviction order as LRUEvictionStrategy")
+    void testNodeLRUEvictionOrder() {
+        Cache<Integer, Integer> cache = new Cache<>(2, new NodeLRUEvictionStrategy<>());
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.get(1);
+        cache.put(3, 3);
+        // Key 2 should be evicted (least recently used)
+        assertEquals(-1, cache.get(2));
+        cache.put(1, 10); // Update in place moves key 1 to most recent
+        cache.put(4, 4);
+        assertEquals(-1, cache.get(3));
+        assertEquals(10, cache.get(1));
+        assertEquals(4, cache.get(4));
+
+        assertEquals(10, cache.remove(1));
+        assertEquals(1, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals("NodeLRUEvictionStrategy", cache.getEvictionStrategyName());
+    }
+
+    @Test
+    @DisplayName("Node FIFO: Access doesn't affect eviction order")
+    void testNodeFIFOEvictionOrder() {
+        Cache<Integer, Integer> cache = new Cache<>(2, new NodeFIFOEvictionStrategy<>());
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.get(1);
+        cache.get(1);
+        cache.put(3, 3);
+        assertEquals(-1, cache.get(1));
+        cache.remove(2);
+        cache.put(4, 4);
+        cache.put(5, 5);
+        // Key 3 is now the oldest insertion
+        assertFalse(cache.containsKey(3));
+        assertTrue(cache.containsKey(4));
+        assertTrue(cache.containsKey(5));
+    }
+
+    // ========== WEIGHTED CACHE TESTS ==========
+
+    @Test
+    @DisplayName("Weighted: Evicts until total weight fits")
+    void testWeightedEviction() {
+        Cache<String, String> cache = new Cache<>(10, (key, value) -> value.length(),
+                new LRUEvictionStrategy<>());
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        assertEquals(8, cache.weightedSize());
+        cache.get("a");
+
+        // Weight 6 requires evicting b (LRU); a alone still fits
+        cache.put("c", "cccccc");
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("a"));
+        assertEquals(10, cache.weightedSize());
+
+        // A heavy entry can evict several light ones
+        cache.put("d", "dddddddddd");
+        assertEquals(1, cache.size());
+        assertEquals(10, cache.weightedSize());
+        assertEquals(10, cache.maximumWeight());
+    }
+
+    @Test
+    @DisplayName("Weighted: Updates, removals and oversized entries adjust the weight")
+    void testWeightedUpdatesAndOversized() {
+        Cache<String, String> cache = new Cache<>(10, (key, value) -> value.length(),
+                new NodeLRUEvictionStrategy<>());
+        cache.put("a", "aa");
+        cache.put("a", "aaaaa");
+        assertEquals(5, cache.weightedSize());
+
+        // Heavier than the whole cache: rejected, and the stale value is dropped
+        cache.put("a", "aaaaaaaaaaaa");
+        assertFalse(cache.containsKey("a"));
+        assertEquals(0, cache.weightedSize());
+
+        cache.put("b", "bbb");
+        cache.remove("b");
+        assertEquals(0, cache.weightedSize());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new Cache<String, String>(0, (key, value) -> 1, new LRUEvictionStrategy<>()));
+        assertThrows(NullPointerException.class,
+                () -> new Cache<String, String>(10, null, new LRUEvictionStrategy<>()));
+        Cache<String, String> negative = new Cache<>(10, (key, value) -> -1, new LRUEvictionStrategy<>());
+        assertThrows(IllegalArgumentException.class, () -> negative.put("x", "x"));
+    }
+
+    // ========== LOADING TESTS ==========
+
+    @Test
+    @DisplayName("Loading: Concurrent misses on one key trigger a single load")
+    void testSingleFlightLoad() throws InterruptedException {
+        Cache<String, String> cache = new Cache<>(10, new NodeLRUEvictionStrategy<>());
+        AtomicInteger loads = new AtomicInteger(0);
+        CountDownLatch start = new CountDownLatch(1);
+        int threadCount = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<String> results = java.util.Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    results.add(cache.get("user", key -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(100);
+                        return key + "-loaded";
+                    }));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, java.util.concurrent.TimeUnit.SECONDS));
+
+        assertEquals(1, loads.get());
+        assertEquals(threadCount, results.size());
+        assertTrue(results.stream().allMatch("user-loaded"::equals));
+        assertEquals("user-loaded", cache.getIfPresent("user"));
+
+        // A caller whose miss raced with a load that has already stored the value and left
+        // finds the value after registering its own load, and does not call the loader
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(new StatsCounter());
+        String value = singleFlight.get("user", key -> null, key -> "user-stored",
+                key -> fail("loader should not run"), (key, v) -> fail("nothing to store"));
+        assertEquals("user-stored", value);
+        assertEquals(0, singleFlight.inFlightCount());
+
+        // A load whose value cannot be stored counts once, as a success
+        StatsCounter stats = new StatsCounter();
+        CacheLatencies latencies = new CacheLatencies();
+        SingleFlight<String, String> storeFails = new SingleFlight<>(stats, () -> latencies);
+        assertThrows(IllegalStateException.class, () -> storeFails.get("user", key -> null, key -> null,
+                key -> "user-loaded", (key, v) -> {
+                    throw new IllegalStateException("Write-behind queue is full");
+                }));
+        assertEquals(1, stats.snapshot().loadSuccessCount());
+        assertEquals(0, stats.snapshot().loadFailureCount());
+        assertEquals(1, latencies.load().snapshot().count());
+        assertEquals(0, storeFails.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Loading: Failed and null loads are not cached")
+    void testLoadFailure() {
+        Cache<String, String> cache = new Cache<>(10, new LRUEvictionStrategy<>());
+        assertThrows(IllegalStateException.class, () -> cache.get("a", key -> {
+            throw new IllegalStateException("backend down");
+        }));
+        assertThrows(java.util.concurrent.CompletionException.class, () -> cache.get("a", key -> {
+            throw new java.io.IOException("timeout");
+        }));
+        assertNull(cache.get("a", key -> null));
+        assertFalse(cache.containsKey("a"));
+        assertNull(cache.getIfPresent("a"));
+
+        // A present value is returned without calling the loader
+        cache.put("a", "cached");
+        assertEquals("cached", cache.get("a", key -> fail("loader should not run")));
+    }
+
+    // ========== BULK OPERATION TESTS ==========
+
+    @Test
+    @DisplayName("Bulk: getAll, putAll and removeAll behave like single-key calls")
+    void testBulkOperations() {
+        Cache<Integer, String> cache = new Cache<>(3, new NodeLRUEvictionStrategy<>());
+        java.util.Map<Integer, String> batch = new java.util.LinkedHashMap<>();
+        batch.put(1, "one");
+        batch.put(2, "two");
+        batch.put(3, "three");
+        cache.putAll(batch);
+        assertEquals(3, cache.size());
+
+        // getAll records accesses: 1 and 3 become more recent than 2
+        java.util.Map<Integer, String> found = cache.getAll(List.of(3, 9, 1));
+        assertEquals(List.of(3, 1), new ArrayList<>(found.keySet()));
+        cache.put(4, "four");
+        assertFalse(cache.containsKey(2));
+
+        assertEquals(2, cache.removeAll(List.of(1, 2, 3)));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Bulk: getAll with a loader loads all misses in one call")
+    void testBulkLoad() {
+        Cache<Integer, String> cache = new Cache<>(10, new LRUEvictionStrategy<>());
+        cache.put(1, "cached");
+        AtomicInteger batches = new AtomicInteger(0);
+        CacheLoader<Integer, String> loader = new CacheLoader<>() {
+            @Override
+            public String load(Integer key) {
+                throw new AssertionError("single-key load should not be used");
+            }
+
+            @Override
+            public java.util.Map<Integer, String> loadAll(java.util.Set<? extends Integer> keys) {
+                batches.incrementAndGet();
+                assertEquals(java.util.Set.of(2, 3), keys);
+                return java.util.Map.of(2, "loaded");
+            }
+        };
+
+        java.util.Map<Integer, String> result = cache.getAll(List.of(1, 2, 3), loader);
+        assertEquals(1, batches.get());
+        assertEquals(java.util.Map.of(1, "cached", 2, "loaded"), result);
+        assertEquals("loaded", cache.getIfPresent(2));
+        assertFalse(cache.containsKey(3));
+    }
+
+    // ========== STATISTICS TESTS ==========
+
+    @Test
+    @DisplayName("Stats: Hits, misses and evictions by cause")
+    void testCacheStats() {
+        Cache<Integer, Integer> cache = new Cache<>(2, new LRUEvictionStrategy<>());
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.get(1);
+        cache.get(3);
+        cache.put(3, 3);
+        cache.getAll(List.of(1, 2, 3));
+
+        CacheStats stats = cache.stats();
+        assertEquals(3, stats.hitCount());
+        assertEquals(2, stats.missCount());
+        assertEquals(3, stats.putCount());
+        assertEquals(1, stats.evictionCount(EvictionCause.SIZE));
+        assertEquals(0, stats.evictionCount(EvictionCause.WEIGHT));
+
+        Cache<String, String> weighted = new Cache<>(4, (key, value) -> value.length(),
+                new LRUEvictionStrategy<>());
+        weighted.put("a", "aa");
+        weighted.put("b", "bbb");
+        assertEquals(1, weighted.stats().evictionCount(EvictionCause.WEIGHT));
+    }
+
+    // ========== WRITE-BEHIND TESTS ==========
+
+    /** Records the batches it receives; fails the first failures calls. */
+    private static class RecordingWriter implements CacheWriter<Integer, String> {
+        final java.util.Map<Integer, String> written = new java.util.concurrent.ConcurrentHashMap<>();
+        final List<Integer> deleted = new java.util.concurrent.CopyOnWriteArrayList<>();
+        final AtomicInteger writeBatches = new AtomicInteger();
+        final AtomicInteger failures;
+
+        RecordingWriter(int failures) {
+            this.failures = new AtomicInteger(failures);
+        }
+
+        @Override
+        public void writeAll(java.util.Map<Integer, String> entries) throws Exception {
+            if (failures.getAndDecrement() > 0) {
+                throw new java.io.IOException("store unavailable");
+            }
+            writeBatches.incrementAndGet();
+            written.putAll(entries);
+        }
+
+        @Override
+        public void deleteAll(java.util.Collection<Integer> keys) {
+            deleted.addAll(keys);
+        }
+    }
+
+    private static void awaitCondition(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out");
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    @DisplayName("WriteBehind: Coalesces changes and flushes by batch size")
+    void testWriteBehindCoalescing() throws InterruptedException {
+        Cache<Integer, String> cache = new Cache<>(10, new LRUEvictionStrategy<>());
+        RecordingWriter writer = new RecordingWriter(0);
+        WriteBehindQueue<Integer, String> queue =
+                cache.enableWriteBehind(writer, 3, 1, java.util.concurrent.TimeUnit.HOURS, 10);
+
+        cache.get(9, key -> "loaded"); // Loaded values are not written back
+        cache.put(1, "a");
+        cache.put(1, "b");
+        cache.put(2, "c");
+        assertEquals(2, queue.pendingCount());
+        cache.remove(3); // Third dirty key: a batch is due
+
+        awaitCondition(() -> queue.batchCount() == 1);
+        assertEquals(java.util.Map.of(1, "b", 2, "c"), writer.written);
+        assertEquals(List.of(3), writer.deleted);
+        assertEquals(3, queue.writeCount());
+
+        assertThrows(IllegalStateException.class,
+                () -> cache.enableWriteBehind(writer, 1, 1, java.util.concurrent.TimeUnit.SECONDS, 1));
+        cache.shutdownWriteBehind();
+        assertNull(cache.writeBehind());
+    }
+
+    @Test
+    @DisplayName("WriteBehind: Flushes after the maximum delay and retries failed batches")
+    void testWriteBehindDelayAndRetry() throws InterruptedException {
+        Cache<Integer, String> cache = new Cache<>(10, new LRUEvictionStrategy<>());
+        RecordingWriter writer = new RecordingWriter(1);
+        WriteBehindQueue<Integer, String> queue =
+                cache.enableWriteBehind(writer, 100, 50, java.util.concurrent.TimeUnit.MILLISECONDS, 100);
+
+        cache.putAll(java.util.Map.of(1, "a", 2, "b"));
+        awaitCondition(() -> queue.failureCount() == 1);
+        assertInstanceOf(java.io.IOException.class, queue.lastFailure());
+
+        // The failed batch is retried after the delay
+        awaitCondition(() -> writer.written.size() == 2);
+        cache.put(1, "c");
+        assertTrue(queue.flush());
+        assertEquals("c", writer.written.get(1));
+        assertEquals(0, queue.pendingCount());
+        cache.shutdownWriteBehind();
+    }
+
+    @Test
+    @DisplayName("WriteBehind: Blocks writers when the queue is full and drains on shutdown")
+    void testWriteBehindBackPressure() throws InterruptedException {
+        Cache<Integer, String> cache = new Cache<>(10, new LRUEvictionStrategy<>());
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingWriter writer = new RecordingWriter(0) {
+            @Override
+            public void writeAll(java.util.Map<Integer, String> entries) throws Exception {
+                release.await();
+                super.writeAll(entries);
+            }
+        };
+        WriteBehindQueue<Integer, String> queue =
+                cache.enableWriteBehind(writer, 1, 1, java.util.concurrent.TimeUnit.HOURS, 1);
+
+        cache.put(1, "a"); // Taken by the flusher, which blocks in the writer
+        awaitCondition(() -> queue.pendingCount() == 0);
+        cache.put(2, "b"); // Fills the queue
+        Thread blocked = new Thread(() -> cache.put(3, "c"));
+        blocked.start();
+        blocked.join(100);
+        assertTrue(blocked.isAlive(), "Put should wait for the flusher");
+        assertEquals("b", cache.getIfPresent(2)); // Readers are not blocked
+
+        release.countDown();
+        blocked.join(5000);
+        assertFalse(blocked.isAlive());
+        cache.shutdownWriteBehind();
+        assertEquals(java.util.Map.of(1, "a", 2, "b", 3, "c"), writer.written);
+    }
+
+    @Test
+    @DisplayName("WriteBehind: Blocked writers give up when the writer stalls or they are interrupted")
+    void testWriteBehindStalledWriter() throws InterruptedException {
+        Cache<Integer, String> cache = new Cache<>(10, new LRUEvictionStrategy<>());
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingWriter writer = new RecordingWriter(0) {
+            @Override
+            public void writeAll(java.util.Map<Integer, String> entries) throws Exception {
+                release.await();
+                super.writeAll(entries);
+            }
+        };
+        WriteBehindQueue<Integer, String> queue =
+                cache.enableWriteBehind(writer, 1, 10, java.util.concurrent.TimeUnit.MILLISECONDS, 1);
+
+        cache.put(1, "a"); // Taken by the flusher, which hangs in the writer
+        awaitCondition(() -> queue.pendingCount() == 0);
+        cache.put(2, "b"); // Fills the queue
+
+        java.util.concurrent.atomic.AtomicReference<Throwable> failure =
+                new java.util.concurrent.atomic.AtomicReference<>();
+        Thread blocked = new Thread(() -> {
+            try {
+                cache.put(4, "d");
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        blocked.start();
+        blocked.join(100);
+        assertTrue(blocked.isAlive());
+        blocked.interrupt();
+        blocked.join(5000);
+        assertInstanceOf(IllegalStateException.class, failure.get());
+
+        assertThrows(IllegalStateException.class, () -> cache.put(3, "c"));
+        assertFalse(cache.containsKey(3)); // A put that gives up is not applied
+        assertFalse(cache.containsKey(4));
+
+        release.countDown();
+        cache.shutdownWriteBehind();
+        assertEquals(java.util.Map.of(1, "a", 2, "b"), writer.written);
+    }
+
     // ========== GENERAL CACHE TESTS ==========
 
     @Test
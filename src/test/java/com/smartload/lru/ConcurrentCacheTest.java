@@ -0,0 +1,94 @@
+package com.smartload.lru;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ConcurrentCache - lock-free reads with buffered access recording.
+ */
+@DisplayName("Concurrent Cache with Lock-Free Reads")
+public class ConcurrentCacheTest {
+
+    @Test
+    @DisplayName("Concurrent cache: Buffered reads still drive LRU order")
+    void testLRUOrderWithBufferedReads() {
+        ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<>(2, new LRUEvictionStrategy<>());
+        cache.put(1, 1);
+        cache.put(2, 2);
+        assertEquals(1, cache.get(1));
+        // The put drains the buffered access to key 1 before evicting
+        cache.put(3, 3);
+        assertEquals(-1, cache.get(2));
+        assertEquals(1, cache.get(1));
+        assertEquals(3, cache.get(3));
+    }
+
+    @Test
+    @DisplayName("Concurrent cache: Remove, clear and size")
+    void testRemoveAndClear() {
+        ConcurrentCache<String, String> cache = new ConcurrentCache<>(3, new FIFOEvictionStrategy<>());
+        cache.put("a", "1");
+        cache.put("b", "2");
+        assertFalse(cache.containsKey("missing"));
+        assertEquals("1", cache.remove("a"));
+        assertNull(cache.remove("a"));
+        assertEquals(1, cache.size());
+
+        // Accesses to keys removed after being read must not resurrect them in the strategy
+        cache.get("b");
+        cache.remove("b");
+        cache.cleanUp();
+        cache.put("c", "3");
+        cache.put("d", "4");
+        cache.put("e", "5");
+        assertEquals(3, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertFalse(cache.containsKey("c"));
+    }
+
+    @Test
+    @DisplayName("Concurrent cache: Many readers with concurrent writers")
+    void testConcurrentReadersAndWriters() throws InterruptedException {
+        ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<>(100, new LRUEvictionStrategy<>());
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+
+        int numThreads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        AtomicInteger errors = new AtomicInteger(0);
+
+        for (int t = 0; t < numThreads; t++) {
+            final int threadId = t;
+            executor.submit(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    int key = (threadId + i) % 200;
+                    if (threadId % 4 == 0) {
+                        cache.put(key, key);
+                    } else {
+                        Object value = cache.get(key);
+                        if (value != null && !value.equals(-1) && !value.equals(key)) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                }
+            });
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(20, TimeUnit.SECONDS);
+        cache.cleanUp();
+
+        assertEquals(0, errors.get());
+        assertTrue(cache.size() <= 100, "Cache size should not exceed capacity");
+    }
+}
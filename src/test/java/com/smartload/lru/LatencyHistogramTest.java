@@ -0,0 +1,107 @@
+package com.smartload.lru;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for LatencyHistogram and latency tracking in Cache.
+ */
+@DisplayName("Latency Histogram")
+public class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Histogram: Buckets cover every value within 12.5%")
+    void testBucketBounds() {
+        long[] values = {0, 1, 7, 8, 9, 15, 16, 100, 1_000, 123_456, 10_000_000_000L, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(index >= 0 && index < LatencyHistogram.BUCKET_COUNT);
+            assertTrue(LatencyHistogram.bucketLowerBound(index) <= value);
+            assertTrue(LatencyHistogram.bucketUpperBound(index) >= value);
+            assertTrue(LatencyHistogram.bucketUpperBound(index) - LatencyHistogram.bucketLowerBound(index)
+                    <= LatencyHistogram.bucketLowerBound(index) / 8);
+        }
+    }
+
+    @Test
+    @DisplayName("Histogram: Percentiles and interval snapshots")
+    void testPercentilesAndIntervals() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000L);
+        }
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.count());
+        assertEquals(500_000, snapshot.median(), 500_000 * 0.125);
+        assertEquals(990_000, snapshot.percentile(99), 990_000 * 0.125);
+        assertEquals(1_000_000, snapshot.max(), 1_000_000 * 0.125);
+        assertEquals(500_500, snapshot.mean(), 500_500 * 0.125);
+
+        // The interval snapshot returns everything so far and starts over
+        assertEquals(1000, histogram.intervalSnapshot().count());
+        histogram.record(42);
+        LatencySnapshot next = histogram.intervalSnapshot();
+        assertEquals(1, next.count());
+        assertEquals(42, next.max(), 42 * 0.125);
+        assertEquals(0, histogram.snapshot().count());
+        assertThrows(IllegalArgumentException.class, () -> next.percentile(101));
+    }
+
+    @Test
+    @DisplayName("Cache: Latency tracking records get, put, lock wait and eviction")
+    void testCacheLatencyTracking() {
+        Cache<Integer, Integer> cache = new Cache<>(2, new LRUEvictionStrategy<>());
+        assertNull(cache.latencies());
+        cache.put(0, 0); // Not recorded
+
+        CacheLatencies latencies = cache.enableLatencyTracking();
+        cache.put(1, 1);
+        cache.put(2, 2); // Evicts 0
+        cache.get(1);
+        cache.get(9);
+
+        assertSame(latencies, cache.latencies());
+        assertEquals(2, latencies.get().snapshot().count());
+        assertEquals(2, latencies.put().snapshot().count());
+        assertEquals(4, latencies.lockWait().snapshot().count()); // LRU lookups take the write lock
+        assertEquals(0, latencies.readLockWait().snapshot().count());
+        assertEquals(1, latencies.eviction().snapshot().count());
+
+        cache.disableLatencyTracking();
+        cache.get(1);
+        assertNull(cache.latencies());
+        assertEquals(2, latencies.get().snapshot().count());
+    }
+
+    @Test
+    @DisplayName("Cache: Latency tracking records single-key and bulk loads")
+    void testCacheLoadLatency() {
+        Cache<Integer, Integer> cache = new Cache<>(10, new LRUEvictionStrategy<>());
+        CacheLatencies latencies = cache.enableLatencyTracking();
+        cache.get(1, key -> key * 10);
+        cache.get(1, key -> key * 10); // Hit: no load
+        assertThrows(IllegalStateException.class, () -> cache.get(2, key -> {
+            throw new IllegalStateException("Load failed");
+        }));
+        cache.getAll(java.util.List.of(1, 3, 4), key -> key * 10); // One loadAll for 3 and 4
+
+        assertEquals(3, latencies.load().snapshot().count());
+        assertEquals(2, cache.stats().loadSuccessCount());
+        assertEquals(1, cache.stats().loadFailureCount());
+    }
+
+    @Test
+    @DisplayName("Cache: Lock-free lookups record read lock waits")
+    void testCacheReadLockWait() {
+        Cache<Integer, Integer> cache = new Cache<>(2, new SieveEvictionStrategy<>());
+        CacheLatencies latencies = cache.enableLatencyTracking();
+        cache.put(1, 1);
+        cache.get(1);
+        cache.getIfPresent(2);
+
+        assertEquals(1, latencies.lockWait().snapshot().count());
+        assertEquals(2, latencies.readLockWait().snapshot().count());
+    }
+}
@@ -0,0 +1,82 @@
+package com.smartload.lru;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for LongKeyCache - primitive long-key cache on flat arrays.
+ */
+@DisplayName("Long Key Cache")
+public class LongKeyCacheTest {
+
+    @Test
+    @DisplayName("LongKey: Native LRU evicts least recently used")
+    void testNativeLRU() {
+        LongKeyCache<Integer> cache = new LongKeyCache<>(2);
+        cache.put(1L, 1);
+        cache.put(2L, 2);
+        assertEquals(1, cache.get(1L));
+        cache.put(3L, 3);
+        assertEquals(-1, cache.get(2L));
+        assertEquals(1, cache.get(1L));
+        assertEquals(3, cache.get(3L));
+        assertEquals("LRUEvictionStrategy", cache.getEvictionStrategyName());
+
+        assertEquals(1, cache.remove(1L));
+        assertNull(cache.remove(1L));
+        assertEquals(1, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertFalse(cache.containsKey(3L));
+    }
+
+    @Test
+    @DisplayName("LongKey: Native FIFO and delegated strategies")
+    void testFIFOAndDelegatedStrategy() {
+        LongKeyCache<String> fifo = new LongKeyCache<>(2, new FIFOEvictionStrategy<>());
+        fifo.put(1L, "a");
+        fifo.put(2L, "b");
+        fifo.get(1L);
+        fifo.put(3L, "c");
+        assertFalse(fifo.containsKey(1L));
+
+        LongKeyCache<String> lfu = new LongKeyCache<>(2, new LFUEvictionStrategy<>());
+        lfu.put(1L, "a");
+        lfu.put(2L, "b");
+        lfu.get(1L);
+        lfu.get(1L);
+        lfu.put(3L, "c");
+        // Key 2 has the lowest frequency
+        assertFalse(lfu.containsKey(2L));
+        assertEquals("a", lfu.getIfPresent(1L));
+        assertEquals("LFUEvictionStrategy", lfu.getEvictionStrategyName());
+    }
+
+    @Test
+    @DisplayName("LongKey: Matches a HashMap under random puts and removes")
+    void testRandomOperationsAgainstHashMap() {
+        // Capacity large enough that nothing is evicted, so the contents must match exactly
+        LongKeyCache<Long> cache = new LongKeyCache<>(1000);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(800) * 1_000_003L;
+            if (random.nextBoolean()) {
+                cache.put(key, (long) i);
+                expected.put(key, (long) i);
+            } else {
+                assertEquals(expected.remove(key), cache.remove(key));
+            }
+        }
+        assertEquals(expected.size(), cache.size());
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), cache.getIfPresent(entry.getKey()));
+        }
+    }
+}
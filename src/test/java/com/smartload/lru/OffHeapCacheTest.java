@@ -0,0 +1,84 @@
+package com.smartload.lru;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for OffHeapCache - byte[] values stored in direct ByteBuffer slabs.
+ */
+@DisplayName("Off-Heap Cache")
+public class OffHeapCacheTest {
+
+    private static byte[] bytes(int length, int fill) {
+        byte[] value = new byte[length];
+        Arrays.fill(value, (byte) fill);
+        return value;
+    }
+
+    @Test
+    @DisplayName("OffHeap: Values round-trip through slabs")
+    void testRoundTrip() {
+        OffHeapCache<String> cache = new OffHeapCache<>(1 << 20, 4096, new LRUEvictionStrategy<>());
+        cache.put("small", bytes(10, 1));
+        cache.put("medium", bytes(1000, 2));
+        cache.put("large", bytes(10_000, 3)); // Larger than a slab: gets a slab of its own
+
+        assertArrayEquals(bytes(10, 1), cache.get("small"));
+        assertArrayEquals(bytes(1000, 2), cache.get("medium"));
+        assertArrayEquals(bytes(10_000, 3), cache.get("large"));
+        assertNull(cache.get("missing"));
+
+        // Updating with a different size moves the value to another size class
+        cache.put("small", bytes(300, 4));
+        assertArrayEquals(bytes(300, 4), cache.get("small"));
+        assertArrayEquals(bytes(300, 4), cache.remove("small"));
+        assertFalse(cache.containsKey("small"));
+        assertEquals(2, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.weightedSize());
+        assertEquals(0, cache.allocatedBytes());
+    }
+
+    @Test
+    @DisplayName("OffHeap: Evicts by chunk size with the eviction strategy")
+    void testWeightedEviction() {
+        // 128-byte values use 128-byte chunks, so four fit
+        OffHeapCache<Integer> cache = new OffHeapCache<>(512, 1024, new LRUEvictionStrategy<>());
+        for (int i = 0; i < 4; i++) {
+            cache.put(i, bytes(128, i));
+        }
+        assertEquals(512, cache.weightedSize());
+        cache.get(0);
+        cache.put(4, bytes(100, 4)); // 112-byte chunk: evicts key 1 (LRU)
+        assertFalse(cache.containsKey(1));
+        assertTrue(cache.containsKey(0));
+        assertEquals(496, cache.weightedSize());
+        assertEquals(1, cache.stats().evictionCount(EvictionCause.WEIGHT));
+
+        // Larger than the whole cache: rejected
+        cache.put(0, bytes(1000, 9));
+        assertFalse(cache.containsKey(0));
+        assertThrows(NullPointerException.class, () -> cache.put(5, null));
+    }
+
+    @Test
+    @DisplayName("OffHeap: Empty slabs are released")
+    void testSlabRelease() {
+        OffHeapCache<Integer> cache = new OffHeapCache<>(1 << 20, 1024, new FIFOEvictionStrategy<>());
+        for (int i = 0; i < 64; i++) {
+            cache.put(i, bytes(64, i)); // 16 chunks per slab: 4 slabs
+        }
+        assertEquals(4096, cache.allocatedBytes());
+        for (int i = 0; i < 64; i++) {
+            cache.remove(i);
+        }
+        // The last slab of the size class is kept for reuse
+        assertEquals(1024, cache.allocatedBytes());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,125 @@
+package com.smartload.lru;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SegmentedCache - lock-striped cache built from independent segments.
+ */
+@DisplayName("Segmented Cache")
+public class SegmentedCacheTest {
+
+    @Test
+    @DisplayName("Segmented: Basic put, get and remove")
+    void testBasicOperations() {
+        SegmentedCache<Integer, Integer> cache = new SegmentedCache<>(100, 4, LRUEvictionStrategy::new);
+        cache.put(1, 10);
+        cache.put(2, 20);
+        assertEquals(10, cache.get(1));
+        assertEquals(20, cache.get(2));
+        assertEquals(-1, cache.get(3));
+        assertTrue(cache.containsKey(1));
+        assertEquals(10, cache.remove(1));
+        assertFalse(cache.containsKey(1));
+        assertEquals(1, cache.size());
+        assertEquals("LRUEvictionStrategy", cache.getEvictionStrategyName());
+    }
+
+    @Test
+    @DisplayName("Segmented: Capacity is split across segments")
+    void testCapacitySplit() {
+        SegmentedCache<Integer, Integer> cache = new SegmentedCache<>(10, 3, FIFOEvictionStrategy::new);
+        assertEquals(10, cache.capacity());
+        assertEquals(3, cache.segmentCount());
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+        // Every segment is full, and the segment capacities add up to the total
+        assertEquals(10, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Segmented: Single segment behaves like Cache")
+    void testSingleSegmentMatchesCache() {
+        SegmentedCache<Integer, Integer> cache = new SegmentedCache<>(2, 1, LRUEvictionStrategy::new);
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.get(1);
+        cache.put(3, 3);
+        // Key 2 should be evicted (least recently used)
+        assertEquals(-1, cache.get(2));
+        assertEquals(1, cache.get(1));
+        assertEquals(3, cache.get(3));
+    }
+
+    @Test
+    @DisplayName("Segmented: Invalid configuration is rejected")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SegmentedCache<Integer, Integer>(0, 1, LRUEvictionStrategy::new));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SegmentedCache<Integer, Integer>(4, 8, LRUEvictionStrategy::new));
+        assertThrows(NullPointerException.class,
+                () -> new SegmentedCache<Integer, Integer>(4, 2, null));
+    }
+
+    @Test
+    @DisplayName("Segmented: Concurrent mixed puts and gets")
+    void testConcurrentPutsAndGets() throws InterruptedException {
+        SegmentedCache<Integer, Integer> cache = new SegmentedCache<>(64, 8, LRUEvictionStrategy::new);
+        int numThreads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        AtomicInteger errors = new AtomicInteger(0);
+
+        for (int t = 0; t < numThreads; t++) {
+            final int threadId = t;
+            executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    int key = (threadId * 31 + i) % 200;
+                    cache.put(key, key);
+                    Object value = cache.get(key);
+                    if (value != null && !value.equals(-1) && !value.equals(key)) {
+                        errors.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(20, TimeUnit.SECONDS);
+
+        assertEquals(0, errors.get());
+        assertTrue(cache.size() <= 64, "Cache size should not exceed capacity");
+    }
+
+    @Test
+    @DisplayName("Segmented: Bulk operations lock each segment once")
+    void testBulkOperations() {
+        SegmentedCache<Integer, Integer> cache = new SegmentedCache<>(100, 4, LRUEvictionStrategy::new);
+        java.util.Map<Integer, Integer> batch = new java.util.HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            batch.put(i, i * 10);
+        }
+        cache.putAll(batch);
+        assertEquals(20, cache.size());
+
+        java.util.Map<Integer, Integer> found = cache.getAll(java.util.List.of(5, 50, 3));
+        assertEquals(java.util.List.of(5, 3), new java.util.ArrayList<>(found.keySet()));
+        assertEquals(30, found.get(3));
+
+        assertEquals(java.util.Map.of(50, 51), cache.getAll(java.util.List.of(50), key -> key + 1));
+        assertEquals(11, cache.removeAll(java.util.List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 50)));
+        assertEquals(10, cache.size());
+    }
+}
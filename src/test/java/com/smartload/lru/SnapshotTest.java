@@ -0,0 +1,107 @@
+package com.smartload.lru;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for cache snapshots - saving entries and eviction state to a file and restoring them.
+ */
+@DisplayName("Cache Snapshots")
+public class SnapshotTest {
+
+    private static final SnapshotCodec<String> STRINGS = SnapshotCodec.of(
+            s -> s.getBytes(StandardCharsets.UTF_8),
+            b -> new String(b, StandardCharsets.UTF_8));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Snapshot: LRU order survives a restart")
+    void testRestoreKeepsRecencyOrder() throws IOException {
+        Path file = directory.resolve("cache.snapshot");
+        Cache<String, String> cache = new Cache<>(3, new NodeLRUEvictionStrategy<>());
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+        cache.get("a"); // Order is now b, c, a
+        assertEquals(3, cache.snapshot(file, STRINGS, STRINGS));
+        assertFalse(Files.exists(directory.resolve("cache.snapshot.tmp")));
+
+        Cache<String, String> restored = new Cache<>(3, new LRUEvictionStrategy<>());
+        assertEquals(3, restored.restore(file, STRINGS, STRINGS));
+        assertEquals("1", restored.getIfPresent("a"));
+        assertEquals(0, restored.stats().putCount());
+
+        // b is still the least recently used entry
+        restored.put("d", "4");
+        assertFalse(restored.containsKey("b"));
+        assertTrue(restored.containsKey("c"));
+
+        // A smaller cache keeps the entries that would have been evicted last
+        Cache<String, String> small = new Cache<>(2, new LRUEvictionStrategy<>());
+        assertEquals(3, small.restore(file, STRINGS, STRINGS));
+        assertFalse(small.containsKey("b"));
+        assertTrue(small.containsKey("c"));
+        assertTrue(small.containsKey("a"));
+    }
+
+    @Test
+    @DisplayName("Snapshot: LFU frequencies survive a restart")
+    void testRestoreKeepsFrequencies() throws IOException {
+        Path file = directory.resolve("lfu.snapshot");
+        Cache<String, String> cache = new Cache<>(3, new ConstantTimeLFUEvictionStrategy<>());
+        cache.put("hot", "1");
+        cache.put("warm", "2");
+        cache.put("cold", "3");
+        for (int i = 0; i < 5; i++) {
+            cache.get("hot");
+        }
+        cache.get("warm");
+        cache.snapshot(file, STRINGS, STRINGS);
+
+        Cache<String, String> restored = new Cache<>(3, new LFUEvictionStrategy<>());
+        restored.restore(file, STRINGS, STRINGS);
+        restored.put("new", "4"); // Evicts cold: frequency 1 and older than new
+        assertTrue(restored.containsKey("hot"));
+        assertFalse(restored.containsKey("cold"));
+
+        // And back into the constant-time LFU
+        restored.snapshot(file, STRINGS, STRINGS);
+        Cache<String, String> again = new Cache<>(2, new ConstantTimeLFUEvictionStrategy<>());
+        again.restore(file, STRINGS, STRINGS);
+        assertTrue(again.containsKey("hot"));
+        assertTrue(again.containsKey("warm"));
+        assertEquals(2, again.size());
+    }
+
+    @Test
+    @DisplayName("Snapshot: TTL expiry times are kept and expired entries skipped")
+    void testTTLSnapshot() throws Exception {
+        Path file = directory.resolve("ttl.snapshot");
+        TTLCache<String, String> cache = new TTLCache<>(10, new LRUEvictionStrategy<>());
+        cache.put("forever", "1");
+        cache.put("long", "2", 60_000);
+        cache.put("short", "3", 100);
+        assertEquals(3, cache.snapshot(file, STRINGS, STRINGS));
+
+        Thread.sleep(150);
+        TTLCache<String, String> restored = new TTLCache<>(10, new LRUEvictionStrategy<>());
+        assertEquals(2, restored.restore(file, STRINGS, STRINGS));
+        assertFalse(restored.containsKey("short"));
+        assertTrue(restored.getRemainingTTL("forever") > 60_000);
+        long remaining = restored.getRemainingTTL("long");
+        assertTrue(remaining > 0 && remaining <= 60_000 - 150, "Expiry time should be kept: " + remaining);
+
+        Files.write(file, new byte[32]);
+        assertThrows(IOException.class, () -> restored.restore(file, STRINGS, STRINGS));
+    }
+}
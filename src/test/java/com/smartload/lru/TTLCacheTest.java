@@ -3,9 +3,11 @@ package com.smartload.lru;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -189,6 +191,319 @@ public class TTLCacheTest {
         assertEquals(2, cache.countValid()); // Only non-expired
     }
 
+    // ========== TIMING WHEEL TESTS ==========
+
+    @Test
+    @DisplayName("TTL: Active cleanup only removes expired entries, across wheel levels")
+    void testActiveCleanupWithManyEntries() throws InterruptedException {
+        TTLCache<Integer, Integer> cache = new TTLCache<>(5000, new LRUEvictionStrategy<>());
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i, 50);                  // Expires soon
+            cache.put(i + 1000, i, 10 * 60_000);  // Ten minutes
+            cache.put(i + 2000, i);               // Never expires
+        }
+
+        Thread.sleep(100);
+
+        assertEquals(1000, cache.cleanupExpired());
+        assertEquals(2000, cache.size());
+        assertEquals(0, cache.cleanupExpired());
+    }
+
+    @Test
+    @DisplayName("TTL: Updated entries are rescheduled")
+    void testCleanupAfterUpdate() throws InterruptedException {
+        TTLCache<String, Integer> cache = new TTLCache<>(10, new LRUEvictionStrategy<>());
+        cache.put("extended", 1, 50);
+        cache.put("extended", 2, 10_000);
+        cache.put("forever", 1, 50);
+        cache.put("forever", 2);
+        cache.put("removed", 1, 50);
+        cache.remove("removed");
+
+        Thread.sleep(100);
+
+        assertEquals(0, cache.cleanupExpired());
+        assertEquals(2, cache.get("extended"));
+        assertEquals(2, cache.get("forever"));
+    }
+
+    @Test
+    @DisplayName("TTL: Expired entry is reclaimed instead of evicting a live one")
+    void testExpiredEntryReclaimedOnOverflow() throws InterruptedException {
+        TTLCache<String, Integer> cache = new TTLCache<>(3, new LRUEvictionStrategy<>());
+        cache.put("live1", 1, 10_000);   // Least recently used
+        cache.put("short", 2, 50);
+        cache.put("live2", 3, 10_000);
+
+        Thread.sleep(100);
+
+        cache.put("live3", 4, 10_000);
+        assertEquals(3, cache.size());
+        assertTrue(cache.containsKey("live1"), "Live entry should not be evicted while an expired one exists");
+        assertTrue(cache.containsKey("live2"));
+        assertTrue(cache.containsKey("live3"));
+    }
+
+    @Test
+    @DisplayName("Timing wheel: Timers cascade down levels and fire on time")
+    void testTimingWheelCascade() {
+        long start = 1_000_000_000L;
+        TimingWheel<String> wheel = new TimingWheel<>(start);
+        wheel.schedule("seconds", start + 5_000);
+        wheel.schedule("minutes", start + 2 * 60_000);
+        wheel.schedule("hours", start + 2 * 3_600_000);
+        wheel.schedule("days", start + 10L * 86_400_000);
+        wheel.schedule("cancelled", start + 5_000);
+        wheel.deschedule("cancelled");
+        assertEquals(4, wheel.size());
+
+        wheel.advance(start + 4_000);
+        assertNull(wheel.pollExpired());
+
+        wheel.advance(start + 5_001);
+        assertEquals("seconds", wheel.pollExpired());
+        assertNull(wheel.pollExpired());
+
+        wheel.advance(start + 60_000);
+        assertNull(wheel.pollExpired());
+        wheel.advance(start + 2 * 60_000 + 1);
+        assertEquals("minutes", wheel.pollExpired());
+
+        wheel.advance(start + 2 * 3_600_000 + 1);
+        assertEquals("hours", wheel.pollExpired());
+        assertNull(wheel.pollExpired());
+
+        // A large jump still finds the remaining timer
+        wheel.advance(start + 30L * 86_400_000);
+        assertEquals("days", wheel.pollExpired());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Timing wheel: A clock stepping backwards neither hangs nor expires entries early")
+    void testClockSteppingBackwards() {
+        AtomicLong clock = new AtomicLong(1_000_000_000L);
+        TTLCache<String, Integer> cache = new TTLCache<>(10, new LRUEvictionStrategy<>(), clock::get);
+        cache.put("a", 1, 1_000);
+        clock.addAndGet(10_000);
+        assertEquals(1, cache.cleanupExpired());
+
+        cache.put("b", 2, 5_000);
+        clock.addAndGet(-60_000); // Time stays at its latest value
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertEquals(0, cache.cleanupExpired());
+            assertEquals(0, cache.runMaintenance());
+        });
+        assertTrue(cache.containsKey("b"));
+        assertEquals(5_000, cache.getRemainingTTL("b"));
+
+        clock.addAndGet(60_000 + 5_001);
+        assertEquals(1, cache.cleanupExpired());
+        assertFalse(cache.containsKey("b"));
+
+        // A timer that is already due when scheduled waits for the next tick instead of
+        // going straight back onto the ready list
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        wheel.advance(10_000);
+        wheel.schedule("due", 5_000);
+        assertNull(wheel.pollExpired());
+        wheel.advance(10_000 + 1_024);
+        assertEquals("due", wheel.pollExpired());
+    }
+
+    // ========== BACKGROUND MAINTENANCE TESTS ==========
+
+    @Test
+    @DisplayName("TTL: Scheduled maintenance expires entries without access")
+    void testScheduledMaintenance() throws InterruptedException {
+        TTLCache<Integer, Integer> cache = new TTLCache<>(1000, new LRUEvictionStrategy<>());
+        cache.enableMaintenance(20, java.util.concurrent.TimeUnit.MILLISECONDS);
+        try {
+            for (int i = 0; i < 500; i++) {
+                cache.put(i, i, 50);
+            }
+            cache.put(-1, -1);
+
+            Thread.sleep(300);
+
+            // Nobody read the entries, yet they are gone
+            assertEquals(1, cache.size());
+            assertThrows(IllegalStateException.class,
+                    () -> cache.enableMaintenance(20, java.util.concurrent.TimeUnit.MILLISECONDS));
+        } finally {
+            cache.shutdownMaintenance();
+        }
+    }
+
+    @Test
+    @DisplayName("TTL: Maintenance on caller-provided executor runs after writes")
+    void testExecutorMaintenance() throws InterruptedException {
+        TTLCache<String, Integer> cache = new TTLCache<>(10, new LRUEvictionStrategy<>());
+        AtomicInteger runs = new AtomicInteger(0);
+        cache.enableMaintenance(task -> {
+            runs.incrementAndGet();
+            task.run();
+        });
+
+        cache.put("short", 1, 50);
+        Thread.sleep(150);
+        cache.put("other", 2);
+
+        assertTrue(runs.get() >= 1);
+        assertEquals(1, cache.size());
+        assertFalse(cache.containsKey("short"));
+        cache.shutdownMaintenance();
+    }
+
+    @Test
+    @DisplayName("TTL: Manual maintenance run expires in slices")
+    void testRunMaintenance() throws InterruptedException {
+        TTLCache<Integer, Integer> cache = new TTLCache<>(20_000, new FIFOEvictionStrategy<>());
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(i, i, 30);
+        }
+        Thread.sleep(80);
+
+        assertEquals(10_000, cache.runMaintenance());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("TTL: Many timers due in the same millisecond are advanced in slices")
+    void testRunMaintenanceSlicesAdvance() {
+        AtomicLong clock = new AtomicLong(1_000_000_000L);
+        TTLCache<Integer, Integer> cache = new TTLCache<>(50_000, new FIFOEvictionStrategy<>(), clock::get);
+        for (int i = 0; i < 50_000; i++) {
+            cache.put(i, i, 30_000); // All due at once, from a coarse level of the wheel
+        }
+        clock.addAndGet(60_000);
+
+        assertEquals(50_000, cache.runMaintenance());
+        assertEquals(0, cache.size());
+        assertTrue(cache.lastMaintenanceSlices() > 1, "Slices: " + cache.lastMaintenanceSlices());
+
+        // The wheel itself stops when the budget runs out and resumes where it left off
+        TimingWheel<Integer> wheel = new TimingWheel<>(0);
+        for (int i = 0; i < 1_000; i++) {
+            wheel.schedule(i, 5_000);
+        }
+        assertFalse(wheel.advance(10_000, 100));
+        assertTrue(wheel.hasExpired()); // Timers found due so far are ready right away
+        int calls = 1;
+        while (!wheel.advance(10_000, 100)) {
+            calls++;
+        }
+        assertTrue(calls >= 10);
+        int expired = 0;
+        while (wheel.pollExpired() != null) {
+            expired++;
+        }
+        assertEquals(1_000, expired);
+        assertTrue(wheel.advance(10_000, 1));
+    }
+
+    // ========== LOADING TESTS ==========
+
+    @Test
+    @DisplayName("TTL: Loader reloads expired entries once")
+    void testLoadingWithTTL() throws InterruptedException {
+        TTLCache<String, Integer> cache = new TTLCache<>(10, new LRUEvictionStrategy<>());
+        AtomicInteger loads = new AtomicInteger(0);
+        CacheLoader<String, Integer> loader = key -> loads.incrementAndGet();
+
+        assertEquals(1, cache.get("k", loader, 50));
+        assertEquals(1, cache.get("k", loader, 50));
+        assertEquals(1, loads.get());
+
+        Thread.sleep(100);
+        // Expired: loaded again
+        assertEquals(2, cache.get("k", loader, 50));
+        assertEquals(2, loads.get());
+        assertNull(cache.getIfPresent("missing"));
+    }
+
+    @Test
+    @DisplayName("TTL: Refresh-after-write serves the stale value while reloading")
+    void testRefreshAfterWrite() throws InterruptedException {
+        TTLCache<String, Integer> cache = new TTLCache<>(10, new LRUEvictionStrategy<>());
+        AtomicInteger loads = new AtomicInteger(0);
+        java.util.List<Runnable> tasks = new java.util.ArrayList<>();
+        cache.enableRefresh(50, java.util.concurrent.TimeUnit.MILLISECONDS,
+                key -> 100 + loads.incrementAndGet(), tasks::add);
+
+        cache.put("hot", 1, 10_000);
+        assertEquals(1, cache.get("hot"));
+        assertTrue(tasks.isEmpty());
+
+        Thread.sleep(100);
+        // Due for refresh: the stale value is returned and only one reload is queued
+        assertEquals(1, cache.get("hot"));
+        assertEquals(1, cache.getIfPresent("hot"));
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+        assertEquals(1, loads.get());
+        assertEquals(101, cache.get("hot"));
+        assertTrue(cache.getRemainingTTL("hot") > 9_000);
+        assertThrows(IllegalStateException.class, () -> cache.enableRefresh(
+                1, java.util.concurrent.TimeUnit.SECONDS, key -> 0, Runnable::run));
+    }
+
+    @Test
+    @DisplayName("TTL: Refresh loads are counted and a failed refresh backs off")
+    void testRefreshFailureBackoff() {
+        AtomicLong clock = new AtomicLong(1_000_000_000L);
+        TTLCache<String, Integer> cache = new TTLCache<>(10, new LRUEvictionStrategy<>(), clock::get);
+        AtomicInteger loads = new AtomicInteger(0);
+        java.util.List<Runnable> tasks = new java.util.ArrayList<>();
+        cache.enableRefresh(50, java.util.concurrent.TimeUnit.MILLISECONDS, key -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("Backend unavailable");
+            }
+            return 100 + loads.get();
+        }, tasks::add);
+
+        cache.put("hot", 1, 10_000);
+        clock.addAndGet(100);
+        assertEquals(1, cache.get("hot"));
+        tasks.remove(0).run();
+        assertEquals(1, cache.stats().loadFailureCount());
+
+        // The failure postpones the next refresh by one interval
+        assertEquals(1, cache.get("hot"));
+        clock.addAndGet(40);
+        assertEquals(1, cache.get("hot"));
+        assertTrue(tasks.isEmpty());
+
+        clock.addAndGet(20);
+        assertEquals(1, cache.get("hot"));
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals(102, cache.get("hot"));
+        assertEquals(1, cache.stats().loadSuccessCount());
+        assertEquals(1, cache.stats().loadFailureCount());
+    }
+
+    @Test
+    @DisplayName("TTL: Bulk operations expire stale entries and load misses")
+    void testBulkOperations() throws InterruptedException {
+        TTLCache<String, Integer> cache = new TTLCache<>(10, new LRUEvictionStrategy<>());
+        cache.putAll(java.util.Map.of("short", 1), 50);
+        cache.putAll(java.util.Map.of("long", 2, "other", 3));
+        Thread.sleep(100);
+
+        java.util.Map<String, Integer> found = cache.getAll(java.util.List.of("short", "long"));
+        assertEquals(java.util.Map.of("long", 2), found);
+        assertEquals(2, cache.size());
+
+        java.util.Map<String, Integer> loaded = cache.getAll(java.util.List.of("long", "short"),
+                key -> key.length(), 10_000);
+        assertEquals(java.util.Map.of("long", 2, "short", 5), loaded);
+        assertEquals(3, cache.removeAll(java.util.List.of("long", "short", "other", "missing")));
+        assertEquals(0, cache.size());
+    }
+
     // ========== TTL AND EVICTION POLICY TESTS ==========
 
     @Test
@@ -342,6 +657,39 @@ public class TTLCacheTest {
         assertTrue(stats.contains("cacheMisses=2"));
     }
 
+    @Test
+    @DisplayName("TTL: Statistics snapshot counts loads, evictions and expirations")
+    void testStatsSnapshot() throws InterruptedException {
+        TTLCache<String, Integer> cache = new TTLCache<>(2, new FIFOEvictionStrategy<>());
+        cache.put("a", 1, 50);
+        cache.put("b", 2);
+        Thread.sleep(100);
+        assertEquals(-1, cache.get("a")); // Miss, expired
+
+        cache.put("c", 3);
+        cache.put("d", 4); // Evicts b (FIFO)
+        assertEquals(3, cache.get("c", key -> 0));
+        assertEquals(5, cache.get("e", key -> 5)); // Loaded, evicts c
+        assertThrows(IllegalStateException.class, () -> cache.get("f", key -> {
+            throw new IllegalStateException("failed");
+        }));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(3, stats.missCount());
+        assertEquals(1, stats.loadSuccessCount());
+        assertEquals(1, stats.loadFailureCount());
+        assertEquals(1, stats.expirationCount());
+        assertEquals(2, stats.evictionCount(EvictionCause.SIZE));
+        assertEquals(3, stats.evictionCount());
+        assertEquals(0.25, stats.hitRate(), 0.0001);
+
+        cache.get("d");
+        CacheStats interval = cache.stats().minus(stats);
+        assertEquals(1, interval.hitCount());
+        assertEquals(0, interval.missCount());
+    }
+
     // ========== BACKWARD COMPATIBILITY TESTS ==========
 
     @Test